@@ -0,0 +1,107 @@
+package chapter05.code;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import chapter04.code.Dish;
+
+/**
+ * 행 번호(리스트 인덱스)를 키로 하는 비트맵 인덱스
+ *
+ * filter(predicate)의 비용:
+ * - 질의마다 모든 요소를 다시 읽고 predicate 호출 → O(n)
+ * - 조건을 조합하면 (채식 AND 타입 = OTHER AND NOT 고칼로리) 요소마다 여러 번 호출
+ *
+ * 비트맵 인덱스:
+ * - 속성 값마다 "그 값을 가진 행 번호 집합"을 CompressedBitmap으로 한 번만 구축
+ *   - boolean 속성: bitmapOf(predicate) → 참인 행
+ *   - enum 속성: bitmapsOf(type, classifier) → 값마다 비트맵 하나 (한 번의 순회)
+ * - 이후 조합 질의는 비트맵 연산 (and / or / andNot / not)
+ *   → 요소를 읽지 않고 개수(cardinality)까지 구할 수 있음
+ * - 실제 요소는 select(비트맵)으로 필요한 행만 꺼냄
+ *
+ * 리스트가 바뀌면 인덱스를 다시 구축해야 함 (읽기 위주 데이터용)
+ */
+public class BitmapIndex<T> {
+
+  private final List<T> rows;
+
+  public BitmapIndex(List<T> rows) {
+    this.rows = rows;
+  }
+
+  public static void main(String... args) {
+    BitmapIndex<Dish> index = new BitmapIndex<>(Dish.menu);
+    CompressedBitmap vegetarian = index.bitmapOf(Dish::isVegetarian);
+    CompressedBitmap highCalorie = index.bitmapOf(d -> d.getCalories() > 500);
+    Map<Dish.Type, CompressedBitmap> byType = index.bitmapsOf(Dish.Type.class, Dish::getType);
+
+    System.out.println("채식                      : " + index.select(vegetarian));
+    System.out.println("비채식                    : " + index.select(index.not(vegetarian)));
+    System.out.println("채식 AND 500kcal 초과     : " + index.select(vegetarian.and(highCalorie)));
+    System.out.println("MEAT OR FISH              : " + index.select(byType.get(Dish.Type.MEAT)
+        .or(byType.get(Dish.Type.FISH))));
+    System.out.println("OTHER AND NOT 500kcal 초과: " + index.select(byType.get(Dish.Type.OTHER)
+        .andNot(highCalorie)));
+    System.out.println("고칼로리 MEAT 개수        : " + byType.get(Dish.Type.MEAT).and(highCalorie).cardinality());
+  }
+
+  public int size() {
+    return rows.size();
+  }
+
+  /**
+   * predicate가 참인 행의 비트맵 (한 번의 순회)
+   */
+  public CompressedBitmap bitmapOf(Predicate<? super T> predicate) {
+    CompressedBitmap bitmap = new CompressedBitmap();
+    for (int i = 0; i < rows.size(); i++) {
+      if (predicate.test(rows.get(i))) {
+        bitmap.add(i);
+      }
+    }
+    return bitmap;
+  }
+
+  /**
+   * enum 값별 비트맵 (한 번의 순회로 모든 값의 비트맵 구축)
+   *
+   * 등장하지 않은 값도 빈 비트맵으로 포함 → get(value)가 null이 아님
+   */
+  public <E extends Enum<E>> Map<E, CompressedBitmap> bitmapsOf(Class<E> type, Function<? super T, E> classifier) {
+    E[] constants = type.getEnumConstants();
+    CompressedBitmap[] bitmaps = new CompressedBitmap[constants.length];
+    for (int i = 0; i < bitmaps.length; i++) {
+      bitmaps[i] = new CompressedBitmap();
+    }
+    for (int i = 0; i < rows.size(); i++) {
+      bitmaps[classifier.apply(rows.get(i)).ordinal()].add(i);
+    }
+    Map<E, CompressedBitmap> result = new EnumMap<>(type);
+    for (E constant : constants) {
+      result.put(constant, bitmaps[constant.ordinal()]);
+    }
+    return result;
+  }
+
+  /**
+   * 이 인덱스의 전체 행 기준 여집합
+   */
+  public CompressedBitmap not(CompressedBitmap bitmap) {
+    return bitmap.not(rows.size());
+  }
+
+  /**
+   * 비트맵에 포함된 행을 원래 순서대로 꺼냄
+   */
+  public List<T> select(CompressedBitmap bitmap) {
+    List<T> result = new ArrayList<>(bitmap.cardinality());
+    bitmap.forEach(row -> result.add(rows.get(row)));
+    return result;
+  }
+
+}
@@ -2,9 +2,11 @@ package chapter05.code;
 
 import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -276,6 +278,67 @@ public class BuildingStreams {
     } catch (Exception e) {
       System.out.println("파일을 찾을 수 없습니다.");
     }
+    System.out.println();
+
+    // ==================================================
+    // 12. 인덱스 기반 피보나치 (Fibonacci)
+    // ==================================================
+    System.out.println("=== 12. Fibonacci source (fast doubling) ===");
+
+    /**
+     * 5, 6번 iterate 버전의 한계:
+     * - 요소마다 int[] 할당, F(47)부터 int 오버플로
+     * - 이전 요소에 의존 → 병렬로 분할 불가
+     *
+     * Fibonacci.longs / bigIntegers:
+     * - F(i)를 빠른 배가법으로 O(log i)에 계산
+     * - SIZED Spliterator → 병렬 스트림이 구간을 반씩 분할
+     */
+    System.out.println("F(0..9)  : " + Fibonacci.longs(0, 10).boxed().collect(Collectors.toList()));
+    System.out.println("F(90..92): " + Fibonacci.longs(90, 93).boxed().collect(Collectors.toList()));
+    System.out.println("F(100)   : " + Fibonacci.bigFibonacci(100));
+    System.out.println();
+
+    // ==================================================
+    // 13. 대용량 파일의 고유 단어 수 (UniqueWords)
+    // ==================================================
+    System.out.println("=== 13. Unique words (mapped file, parallel) ===");
+
+    /**
+     * 11번의 Files.lines + split + distinct:
+     * - 한 스레드가 읽고 디코딩, 줄마다 split, HashSet<String> 하나
+     *
+     * UniqueWords:
+     * - 파일을 구분자 경계의 조각으로 나눠 메모리 매핑 → 조각별 병렬 처리
+     * - 바이트에서 직접 토큰화 (정규식/String 없음)
+     * - countExact: 조각별 바이트 키 집합을 병합
+     * - countApproximate: HyperLogLog (고정 16KB, 오차 약 0.8%)
+     */
+    try {
+      Path data = Paths.get("lambdasinaction/chap5/data.txt");
+      System.out.println("고유 단어 수 (정확): " + UniqueWords.countExact(data));
+      System.out.println("고유 단어 수 (근사): " + UniqueWords.countApproximate(data));
+    } catch (Exception e) {
+      System.out.println("파일을 찾을 수 없습니다.");
+    }
+    System.out.println();
+
+    // ==================================================
+    // 14. 재현 가능한 병렬 난수 (RandomStreams)
+    // ==================================================
+    System.out.println("=== 14. Reproducible random streams ===");
+
+    /**
+     * 7번 generate(Math::random)의 한계:
+     * - 크기 없음, 하나의 Random 공유 (병렬 경합), 시드 재현 불가
+     *
+     * RandomStreams.doubles(seed, count):
+     * - 요소 i = SplittableRandom(seed)의 i번째 값 (인덱스로 바로 계산)
+     * - SIZED → 균등 분할, 병렬도와 무관하게 같은 결과
+     */
+    System.out.println("난수 5개 (seed 42): " + RandomStreams.doubles(42, 5).boxed().collect(Collectors.toList()));
+    System.out.println("병렬 합 == 순차 합: " + (RandomStreams.longs(42, 1_000_000).parallel().sum()
+        == RandomStreams.longs(42, 1_000_000).sum()));
   }
 }
 
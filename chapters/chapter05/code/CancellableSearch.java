@@ -0,0 +1,295 @@
+package chapter05.code;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import chapter04.code.Dish;
+
+/**
+ * 협력적 취소를 하는 병렬 검색 (findAny / findFirst / anyMatch)
+ *
+ * 병렬 스트림의 findAny / anyMatch:
+ * - 일치 요소를 찾으면 결과는 정해지지만, 이미 실행 중인 다른 작업은
+ *   자기 구간을 끝까지(또는 다음 취소 확인 지점까지) 검사
+ * - 조건 검사가 비싸면 (I/O, 원격 호출, 무거운 계산) 결과가 나온 뒤에도 CPU를 계속 사용
+ *
+ * 이 엔진:
+ * - 인덱스 구간을 fork/join으로 나누고 모든 작업이 하나의 SearchState를 공유
+ * - 일치를 찾으면 SearchState에 기록 → 모든 작업이 요소마다 확인하고 즉시 멈춤 (취소 전파)
+ * - 아직 시작하지 않은 작업은 시작할 때 확인하고 분할/검사 없이 끝냄
+ * - findFirst: 지금까지 찾은 가장 작은 인덱스보다 뒤의 요소만 건너뜀 (앞쪽은 계속 검사)
+ *
+ * Result 통계:
+ * - examined: 조건을 검사한 요소 수
+ * - examinedAfterMatch: 검사가 끝났을 때 이미 결과에 영향이 없던 요소 수 (낭비된 검사)
+ *   findAny는 첫 일치 기록 이후, findFirst는 더 앞의 일치가 기록된 이후
+ * - nanosToFirstMatch: 시작부터 첫 일치 기록까지의 시간
+ *
+ * 취소는 협력적: 실행 중인 predicate.test 하나는 끝까지 실행됨
+ */
+public final class CancellableSearch {
+
+  /**
+   * 리프 작업의 최대 요소 수 (취소는 요소마다 확인하므로 작업 분배 단위일 뿐)
+   */
+  static final int LEAF_SIZE = 64;
+
+  private static final int NOT_FOUND = Integer.MAX_VALUE;
+
+  private static volatile long sink;
+
+  private CancellableSearch() {
+  }
+
+  public static void main(String... args) {
+    List<Dish> dishes = new ArrayList<>();
+    for (int i = 0; i < 200_000; i++) {
+      for (Dish dish : Dish.menu) {
+        if (!dish.isVegetarian()) {
+          dishes.add(dish);
+        }
+      }
+    }
+    // 채식 요리는 전체의 60% 지점과 끝에 하나씩
+    Dish vegetarian = Dish.menu.stream().filter(Dish::isVegetarian).findFirst().get();
+    dishes.set(dishes.size() * 6 / 10, vegetarian);
+    dishes.set(dishes.size() - 1, vegetarian);
+    Predicate<Dish> slowIsVegetarian = CancellableSearch::slowIsVegetarian;
+    System.out.println("요리 수: " + dishes.size());
+
+    LongAdder streamCalls = new LongAdder();
+    long start = System.nanoTime();
+    Optional<Dish> streamResult = dishes.parallelStream()
+        .filter(dish -> {
+          streamCalls.increment();
+          return slowIsVegetarian.test(dish);
+        })
+        .findAny();
+    System.out.printf("parallelStream.findAny  : %s, 검사 %,d개 (%d ms)%n",
+        streamResult.map(Dish::getName).orElse("-"), streamCalls.sum(), (System.nanoTime() - start) / 1_000_000);
+
+    start = System.nanoTime();
+    Result<Dish> any = findAny(dishes, slowIsVegetarian);
+    System.out.printf("CancellableSearch.findAny : %s (%d ms)%n", any, (System.nanoTime() - start) / 1_000_000);
+
+    start = System.nanoTime();
+    Result<Dish> first = findFirst(dishes, slowIsVegetarian);
+    System.out.printf("CancellableSearch.findFirst : %s (%d ms)%n", first, (System.nanoTime() - start) / 1_000_000);
+  }
+
+  /**
+   * 비싼 조건 검사 흉내 (수 마이크로초의 계산)
+   */
+  private static boolean slowIsVegetarian(Dish dish) {
+    long x = dish.getCalories();
+    for (int i = 0; i < 5_000; i++) {
+      x = x * 6364136223846793005L + 1442695040888963407L;
+    }
+    sink = x;
+    return dish.isVegetarian();
+  }
+
+  // ==================================================
+  // 공개 API
+  // ==================================================
+  public static <T> Result<T> findAny(List<T> data, Predicate<? super T> predicate) {
+    return findAny(data, predicate, ForkJoinPool.commonPool());
+  }
+
+  public static <T> Result<T> findAny(List<T> data, Predicate<? super T> predicate, ForkJoinPool pool) {
+    return search(data, predicate, pool, false);
+  }
+
+  /**
+   * 가장 작은 인덱스의 일치 요소 (순차 findFirst와 같은 결과)
+   */
+  public static <T> Result<T> findFirst(List<T> data, Predicate<? super T> predicate) {
+    return findFirst(data, predicate, ForkJoinPool.commonPool());
+  }
+
+  public static <T> Result<T> findFirst(List<T> data, Predicate<? super T> predicate, ForkJoinPool pool) {
+    return search(data, predicate, pool, true);
+  }
+
+  public static <T> boolean anyMatch(List<T> data, Predicate<? super T> predicate) {
+    return findAny(data, predicate).getValue().isPresent();
+  }
+
+  /**
+   * allMatch(p) = !anyMatch(!p)
+   */
+  public static <T> boolean allMatch(List<T> data, Predicate<? super T> predicate) {
+    return !anyMatch(data, predicate.negate());
+  }
+
+  private static <T> Result<T> search(List<T> data, Predicate<? super T> predicate, ForkJoinPool pool,
+      boolean first) {
+    SearchState state = new SearchState(first);
+    pool.invoke(new SearchTask<>(data, predicate, state, 0, data.size()));
+    int index = state.matchIndex.get();
+    Optional<T> value = index == NOT_FOUND ? Optional.empty() : Optional.of(data.get(index));
+    return new Result<>(value, index == NOT_FOUND ? -1 : index, state.examined.sum(),
+        state.examinedAfterMatch.sum(), index == NOT_FOUND ? -1 : state.firstMatchNanos - state.startNanos);
+  }
+
+  // ==================================================
+  // 공유 상태와 작업
+  // ==================================================
+  /**
+   * 모든 작업이 공유하는 검색 상태 (취소 신호)
+   *
+   * matchIndex:
+   * - findAny: 처음 기록된 일치 인덱스 (NOT_FOUND가 아니면 모두 멈춤)
+   * - findFirst: 지금까지 찾은 가장 작은 일치 인덱스 (그보다 뒤의 요소만 멈춤)
+   */
+  private static final class SearchState {
+
+    final boolean first;
+    final AtomicInteger matchIndex = new AtomicInteger(NOT_FOUND);
+    final LongAdder examined = new LongAdder();
+    final LongAdder examinedAfterMatch = new LongAdder();
+    final long startNanos = System.nanoTime();
+    volatile long firstMatchNanos;
+
+    SearchState(boolean first) {
+      this.first = first;
+    }
+
+    /**
+     * index의 요소를 더 검사할 필요가 없는가
+     */
+    boolean cancelled(int index) {
+      int match = matchIndex.get();
+      return first ? index > match : match != NOT_FOUND;
+    }
+
+    void recordMatch(int index) {
+      int current;
+      do {
+        current = matchIndex.get();
+        if ((!first && current != NOT_FOUND) || index >= current) {
+          return;
+        }
+      } while (!matchIndex.compareAndSet(current, index));
+      if (current == NOT_FOUND) {
+        firstMatchNanos = System.nanoTime();
+      }
+    }
+
+  }
+
+  private static final class SearchTask<T> extends RecursiveAction {
+
+    private final List<T> data;
+    private final Predicate<? super T> predicate;
+    private final SearchState state;
+    private final int start;
+    private final int end;
+
+    SearchTask(List<T> data, Predicate<? super T> predicate, SearchState state, int start, int end) {
+      this.data = data;
+      this.predicate = predicate;
+      this.state = state;
+      this.start = start;
+      this.end = end;
+    }
+
+    /**
+     * 뒤쪽 절반을 fork하고 앞쪽 절반을 직접 실행 → 앞쪽부터 진행 (findFirst에 유리)
+     */
+    @Override
+    protected void compute() {
+      if (state.cancelled(start)) {
+        return;
+      }
+      if (end - start <= LEAF_SIZE) {
+        scan();
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      SearchTask<T> right = new SearchTask<>(data, predicate, state, mid, end);
+      right.fork();
+      new SearchTask<>(data, predicate, state, start, mid).compute();
+      right.join();
+    }
+
+    private void scan() {
+      for (int i = start; i < end; i++) {
+        if (state.cancelled(i)) {
+          return;
+        }
+        boolean matched = predicate.test(data.get(i));
+        state.examined.increment();
+        if (state.cancelled(i)) {
+          state.examinedAfterMatch.increment();
+        }
+        if (matched) {
+          state.recordMatch(i);
+          return;
+        }
+      }
+    }
+
+  }
+
+  // ==================================================
+  // 결과
+  // ==================================================
+  public static final class Result<T> {
+
+    private final Optional<T> value;
+    private final int index;
+    private final long examined;
+    private final long examinedAfterMatch;
+    private final long nanosToFirstMatch;
+
+    Result(Optional<T> value, int index, long examined, long examinedAfterMatch, long nanosToFirstMatch) {
+      this.value = value;
+      this.index = index;
+      this.examined = examined;
+      this.examinedAfterMatch = examinedAfterMatch;
+      this.nanosToFirstMatch = nanosToFirstMatch;
+    }
+
+    public Optional<T> getValue() {
+      return value;
+    }
+
+    /**
+     * 일치 요소의 인덱스 (없으면 -1)
+     */
+    public int getIndex() {
+      return index;
+    }
+
+    public long getExamined() {
+      return examined;
+    }
+
+    public long getExaminedAfterMatch() {
+      return examinedAfterMatch;
+    }
+
+    /**
+     * 첫 일치까지 걸린 시간 (없으면 -1)
+     */
+    public long getNanosToFirstMatch() {
+      return nanosToFirstMatch;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("Result{value=%s, index=%d, examined=%,d, examinedAfterMatch=%,d, msToFirstMatch=%.1f}",
+          value.map(String::valueOf).orElse("-"), index, examined, examinedAfterMatch,
+          nanosToFirstMatch < 0 ? -1.0 : nanosToFirstMatch / 1e6);
+    }
+
+  }
+
+}
@@ -0,0 +1,445 @@
+package chapter05.code;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * 코드 포인트 단위 문자 통계 (고유 문자, 문자별 빈도)
+ *
+ * Mapping 3번 방식:
+ *   words.stream().flatMap(line -> Arrays.stream(line.split(""))).distinct()
+ * - 문자마다 String 하나 + 단어마다 String[] 하나 할당
+ * - distinct는 HashSet<String> → 문자마다 해시 계산, equals, 엔트리 할당
+ * - split("")은 char 단위 → 보충 문자(이모지 등)는 서로게이트 두 조각으로 잘림
+ *
+ * 이 클래스:
+ * - 문자 스트림: CharSequence::codePoints를 flatMapToInt → IntStream (박싱/문자열 없음)
+ * - CodePointSet: BMP(U+0000 ~ U+FFFF)는 고정 비트셋 (8KB),
+ *   보충 문자는 4096자 단위 페이지를 처음 쓸 때만 할당하는 희소 비트셋
+ * - Histogram: 256자 단위 페이지의 long 카운터 (쓰인 페이지만 할당)
+ *   → 한글 음절(약 11,000자)도 실제 나온 페이지만 메모리 사용
+ * - Collection 버전은 스트림 없이 charAt으로 직접 순회, 병렬은 텍스트 단위로 나눠 누적 후 병합
+ *
+ * 문자 하나를 추가할 때 할당 없음 (새 페이지를 여는 경우만 예외)
+ */
+public final class CharacterStats {
+
+  private CharacterStats() {
+  }
+
+  public static void main(String... args) {
+    List<String> words = Arrays.asList("Hello", "World", "안녕", "세계", "Java😀");
+    System.out.println("단어: " + words);
+    System.out.println("split(\"\") + distinct: " + words.stream()
+        .flatMap(line -> Arrays.stream(line.split("")))
+        .distinct()
+        .collect(toList()));
+    System.out.println("CodePointSet        : " + distinct(codePoints(words)));
+    System.out.println("Histogram           : " + histogram(words).toMap());
+    System.out.println();
+
+    List<String> corpus = randomCorpus(2_000_000, 42);
+    for (int round = 1; round <= 3; round++) {
+      long start = System.nanoTime();
+      long expected = corpus.stream()
+          .flatMap(line -> Arrays.stream(line.split("")))
+          .distinct()
+          .count();
+      long streamTime = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      CodePointSet set = distinct(corpus);
+      long setTime = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      Histogram histogram = histogramParallel(corpus);
+      long histogramTime = System.nanoTime() - start;
+
+      System.out.printf("%d회차 split + distinct : %d (%d ms)%n", round, expected, streamTime / 1_000_000);
+      System.out.printf("%d회차 CodePointSet     : %d (%d ms)%n", round, set.size(), setTime / 1_000_000);
+      System.out.printf("%d회차 Histogram (병렬) : %d종, %,d자 (%d ms)%n", round, histogram.distinct(),
+          histogram.total(), histogramTime / 1_000_000);
+    }
+  }
+
+  /**
+   * 영문 소문자와 한글 음절 일부가 섞인 단어 count개
+   */
+  static List<String> randomCorpus(int count, long seed) {
+    Random random = new Random(seed);
+    List<String> corpus = new ArrayList<>(count);
+    StringBuilder word = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      word.setLength(0);
+      int length = 2 + random.nextInt(8);
+      for (int j = 0; j < length; j++) {
+        word.append(random.nextInt(4) == 0 ? (char) ('가' + random.nextInt(2_000)) : (char) ('a' + random.nextInt(26)));
+      }
+      corpus.add(word.toString());
+    }
+    return corpus;
+  }
+
+  // ==================================================
+  // 공개 API
+  // ==================================================
+  /**
+   * 모든 텍스트의 코드 포인트를 이어 붙인 스트림
+   */
+  public static IntStream codePoints(Collection<? extends CharSequence> texts) {
+    return texts.stream().flatMapToInt(CharSequence::codePoints);
+  }
+
+  /**
+   * 코드 포인트 스트림의 고유 문자 (병렬 스트림이면 작업마다 집합을 만들고 병합)
+   */
+  public static CodePointSet distinct(IntStream codePoints) {
+    return codePoints.collect(CodePointSet::new, CodePointSet::add, CodePointSet::addAll);
+  }
+
+  public static CodePointSet distinct(Collection<? extends CharSequence> texts) {
+    CodePointSet set = new CodePointSet();
+    for (CharSequence text : texts) {
+      set.addAll(text);
+    }
+    return set;
+  }
+
+  public static CodePointSet distinctParallel(Collection<? extends CharSequence> texts) {
+    return texts.parallelStream().collect(CodePointSet::new, CodePointSet::addAll, CodePointSet::addAll);
+  }
+
+  public static Histogram histogram(IntStream codePoints) {
+    return codePoints.collect(Histogram::new, Histogram::add, Histogram::addAll);
+  }
+
+  public static Histogram histogram(Collection<? extends CharSequence> texts) {
+    Histogram histogram = new Histogram();
+    for (CharSequence text : texts) {
+      histogram.addAll(text);
+    }
+    return histogram;
+  }
+
+  public static Histogram histogramParallel(Collection<? extends CharSequence> texts) {
+    return texts.parallelStream().collect(Histogram::new, Histogram::addAll, Histogram::addAll);
+  }
+
+  /**
+   * text의 코드 포인트를 순서대로 전달 (String.codePoints와 같은 규칙: 짝 없는 서로게이트는 그대로)
+   */
+  static void forEachCodePoint(CharSequence text, IntConsumer action) {
+    int length = text.length();
+    for (int i = 0; i < length; i++) {
+      char c = text.charAt(i);
+      if (Character.isHighSurrogate(c) && i + 1 < length) {
+        char low = text.charAt(i + 1);
+        if (Character.isLowSurrogate(low)) {
+          action.accept(Character.toCodePoint(c, low));
+          i++;
+          continue;
+        }
+      }
+      action.accept(c);
+    }
+  }
+
+  private static String toDisplayString(int codePoint) {
+    return new String(Character.toChars(codePoint));
+  }
+
+  // ==================================================
+  // 고유 문자 집합
+  // ==================================================
+  /**
+   * 코드 포인트 비트셋 (BMP는 고정 배열, 보충 문자는 희소 페이지)
+   */
+  public static final class CodePointSet {
+
+    private static final int BMP_WORDS = 0x10000 >>> 6;
+    private static final int PAGE_SHIFT = 12;
+    private static final int PAGE_WORDS = (1 << PAGE_SHIFT) >>> 6;
+    private static final int PAGES = (Character.MAX_CODE_POINT + 1 - 0x10000) >>> PAGE_SHIFT;
+
+    private final long[] bmp = new long[BMP_WORDS];
+    private long[][] supplementary;
+    private int size;
+
+    /**
+     * @return 새로 추가되었으면 true
+     */
+    public boolean add(int codePoint) {
+      long[] words;
+      int bit;
+      if (codePoint < 0x10000) {
+        words = bmp;
+        bit = checkCodePoint(codePoint);
+      }
+      else {
+        int offset = checkCodePoint(codePoint) - 0x10000;
+        words = page(offset >>> PAGE_SHIFT);
+        bit = offset & ((1 << PAGE_SHIFT) - 1);
+      }
+      long mask = 1L << bit;
+      long word = words[bit >>> 6];
+      if ((word & mask) != 0) {
+        return false;
+      }
+      words[bit >>> 6] = word | mask;
+      size++;
+      return true;
+    }
+
+    public void addAll(CharSequence text) {
+      forEachCodePoint(text, this::add);
+    }
+
+    /**
+     * other의 모든 문자를 추가 (비트 OR)
+     */
+    public void addAll(CodePointSet other) {
+      for (int i = 0; i < BMP_WORDS; i++) {
+        bmp[i] |= other.bmp[i];
+      }
+      if (other.supplementary != null) {
+        for (int p = 0; p < PAGES; p++) {
+          long[] source = other.supplementary[p];
+          if (source != null) {
+            long[] target = page(p);
+            for (int i = 0; i < PAGE_WORDS; i++) {
+              target[i] |= source[i];
+            }
+          }
+        }
+      }
+      size = countBits();
+    }
+
+    public boolean contains(int codePoint) {
+      if (codePoint < 0 || codePoint > Character.MAX_CODE_POINT) {
+        return false;
+      }
+      if (codePoint < 0x10000) {
+        return (bmp[codePoint >>> 6] & (1L << codePoint)) != 0;
+      }
+      int offset = codePoint - 0x10000;
+      long[] words = supplementary == null ? null : supplementary[offset >>> PAGE_SHIFT];
+      return words != null && (words[(offset & ((1 << PAGE_SHIFT) - 1)) >>> 6] & (1L << offset)) != 0;
+    }
+
+    public int size() {
+      return size;
+    }
+
+    /**
+     * 코드 포인트 오름차순
+     */
+    public void forEach(IntConsumer action) {
+      forEachBit(bmp, 0, action);
+      if (supplementary != null) {
+        for (int p = 0; p < PAGES; p++) {
+          if (supplementary[p] != null) {
+            forEachBit(supplementary[p], 0x10000 + (p << PAGE_SHIFT), action);
+          }
+        }
+      }
+    }
+
+    public int[] toArray() {
+      int[] result = new int[size];
+      int[] index = { 0 };
+      forEach(codePoint -> result[index[0]++] = codePoint);
+      return result;
+    }
+
+    public IntStream stream() {
+      return IntStream.of(toArray());
+    }
+
+    private long[] page(int p) {
+      if (supplementary == null) {
+        supplementary = new long[PAGES][];
+      }
+      long[] words = supplementary[p];
+      if (words == null) {
+        words = new long[PAGE_WORDS];
+        supplementary[p] = words;
+      }
+      return words;
+    }
+
+    private int countBits() {
+      int count = 0;
+      for (long word : bmp) {
+        count += Long.bitCount(word);
+      }
+      if (supplementary != null) {
+        for (long[] words : supplementary) {
+          if (words != null) {
+            for (long word : words) {
+              count += Long.bitCount(word);
+            }
+          }
+        }
+      }
+      return count;
+    }
+
+    private static void forEachBit(long[] words, int base, IntConsumer action) {
+      for (int i = 0; i < words.length; i++) {
+        long word = words[i];
+        while (word != 0) {
+          action.accept(base + (i << 6) + Long.numberOfTrailingZeros(word));
+          word &= word - 1;
+        }
+      }
+    }
+
+    @Override
+    public String toString() {
+      List<String> characters = new ArrayList<>(size);
+      forEach(codePoint -> characters.add(toDisplayString(codePoint)));
+      return characters.toString();
+    }
+
+  }
+
+  // ==================================================
+  // 문자별 빈도
+  // ==================================================
+  /**
+   * 코드 포인트별 출현 횟수 (256자 단위 페이지, 쓰인 페이지만 할당)
+   */
+  public static final class Histogram {
+
+    private static final int PAGE_SHIFT = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+
+    private final long[][] pages = new long[(Character.MAX_CODE_POINT + 1) >>> PAGE_SHIFT][];
+    private long total;
+
+    public void add(int codePoint) {
+      checkCodePoint(codePoint);
+      long[] page = pages[codePoint >>> PAGE_SHIFT];
+      if (page == null) {
+        page = new long[PAGE_SIZE];
+        pages[codePoint >>> PAGE_SHIFT] = page;
+      }
+      page[codePoint & (PAGE_SIZE - 1)]++;
+      total++;
+    }
+
+    public void addAll(CharSequence text) {
+      forEachCodePoint(text, this::add);
+    }
+
+    public void addAll(Histogram other) {
+      for (int p = 0; p < pages.length; p++) {
+        long[] source = other.pages[p];
+        if (source != null) {
+          long[] target = pages[p];
+          if (target == null) {
+            pages[p] = source.clone();
+          }
+          else {
+            for (int i = 0; i < PAGE_SIZE; i++) {
+              target[i] += source[i];
+            }
+          }
+        }
+      }
+      total += other.total;
+    }
+
+    public long count(int codePoint) {
+      if (codePoint < 0 || codePoint > Character.MAX_CODE_POINT) {
+        return 0;
+      }
+      long[] page = pages[codePoint >>> PAGE_SHIFT];
+      return page == null ? 0 : page[codePoint & (PAGE_SIZE - 1)];
+    }
+
+    /**
+     * 전체 문자 수
+     */
+    public long total() {
+      return total;
+    }
+
+    /**
+     * 한 번 이상 나온 문자 종류 수
+     */
+    public int distinct() {
+      int count = 0;
+      for (long[] page : pages) {
+        if (page != null) {
+          for (long c : page) {
+            if (c > 0) {
+              count++;
+            }
+          }
+        }
+      }
+      return count;
+    }
+
+    /**
+     * 한 번 이상 나온 문자 집합
+     */
+    public CodePointSet keySet() {
+      CodePointSet set = new CodePointSet();
+      forEach((codePoint, count) -> set.add(codePoint));
+      return set;
+    }
+
+    /**
+     * 코드 포인트 오름차순
+     */
+    public void forEach(CodePointCountConsumer action) {
+      for (int p = 0; p < pages.length; p++) {
+        long[] page = pages[p];
+        if (page != null) {
+          for (int i = 0; i < PAGE_SIZE; i++) {
+            if (page[i] > 0) {
+              action.accept((p << PAGE_SHIFT) + i, page[i]);
+            }
+          }
+        }
+      }
+    }
+
+    /**
+     * 문자 → 횟수 (코드 포인트 순서, 결과를 만들 때만 문자열 할당)
+     */
+    public Map<String, Long> toMap() {
+      Map<String, Long> result = new LinkedHashMap<>();
+      forEach((codePoint, count) -> result.put(toDisplayString(codePoint), count));
+      return result;
+    }
+
+  }
+
+  @FunctionalInterface
+  public interface CodePointCountConsumer {
+
+    void accept(int codePoint, long count);
+
+  }
+
+  private static int checkCodePoint(int codePoint) {
+    if (!Character.isValidCodePoint(codePoint)) {
+      throw new IllegalArgumentException("Invalid code point: " + codePoint);
+    }
+    return codePoint;
+  }
+
+}
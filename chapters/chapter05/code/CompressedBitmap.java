@@ -0,0 +1,605 @@
+package chapter05.code;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * 압축 비트맵 (Roaring 방식의 컨테이너 구성)
+ *
+ * 행 번호 집합을 표현하는 방법:
+ * - int[] 행 번호 배열: 희소하면 작지만 AND/OR가 정렬 병합
+ * - 평범한 비트맵 (long[]): 밀집하면 빠르지만 희소하면 n/8 바이트 낭비
+ *
+ * Roaring 방식:
+ * - 행 번호의 상위 16비트로 65536개씩 청크를 나누고, 청크마다 컨테이너 하나
+ * - 청크 안의 값이 4096개 이하 → 배열 컨테이너 (정렬된 char[], 값당 2바이트)
+ * - 4096개 초과 → 비트맵 컨테이너 (long[1024] = 8KB 고정)
+ *   → 4096 × 2바이트 = 8KB가 경계, 어느 쪽이든 8KB를 넘지 않음
+ * - 비어 있는 청크는 저장하지 않음
+ *
+ * 연산:
+ * - and / or / andNot: 같은 청크의 컨테이너끼리만 연산 (키 정렬 병합)
+ *   - 비트맵 × 비트맵: long 1024개 단어 연산
+ *   - 배열 × 배열: 정렬 병합
+ *   - 배열 × 비트맵: 배열 값마다 비트 확인
+ * - not(universe): [0, universe) 전체에서 andNot
+ * - cardinality: 컨테이너별 개수 합 (비트를 다시 세지 않음)
+ *
+ * 이 구현은 배열/비트맵 두 종류만 사용 (Roaring의 run 컨테이너는 생략)
+ * 연산 결과는 항상 새 비트맵 → 인덱스에 저장한 비트맵은 변경되지 않음
+ */
+public final class CompressedBitmap {
+
+  private static final int ARRAY_MAX = 4096;
+  private static final int BITMAP_WORDS = 1024;
+
+  private char[] keys;
+  private Container[] containers;
+  private int size;
+
+  public CompressedBitmap() {
+    this(4);
+  }
+
+  private CompressedBitmap(int capacity) {
+    keys = new char[capacity];
+    containers = new Container[capacity];
+  }
+
+  public static void main(String... args) {
+    int n = 5_000_000;
+    Random random = new Random(42);
+    CompressedBitmap even = new CompressedBitmap();
+    CompressedBitmap sparse = new CompressedBitmap();
+    int expectedAnd = 0;
+    for (int i = 0; i < n; i++) {
+      boolean isSparse = random.nextInt(100) == 0;
+      if (i % 2 == 0) {
+        even.add(i);
+      }
+      if (isSparse) {
+        sparse.add(i);
+        if (i % 2 == 0) {
+          expectedAnd++;
+        }
+      }
+    }
+    System.out.println("even   : " + even);
+    System.out.println("sparse : " + sparse);
+    System.out.println("and    : " + even.and(sparse).cardinality() + " (expected " + expectedAnd + ")");
+    System.out.println("or     : " + even.or(sparse).cardinality());
+    System.out.println("andNot : " + sparse.andNot(even).cardinality());
+    System.out.println("not    : " + even.not(n).cardinality() + " (expected " + (n / 2) + ")");
+  }
+
+  /**
+   * [0, universe) 전체 집합
+   */
+  public static CompressedBitmap range(int universe) {
+    CompressedBitmap result = new CompressedBitmap(Math.max(1, (universe + 0xFFFF) >>> 16));
+    for (int start = 0; start < universe; start += 1 << 16) {
+      int end = Math.min(universe, start + (1 << 16));
+      result.append((char) (start >>> 16), BitmapContainer.full(end - start));
+    }
+    return result;
+  }
+
+  public static CompressedBitmap of(int... values) {
+    CompressedBitmap result = new CompressedBitmap();
+    for (int value : values) {
+      result.add(value);
+    }
+    return result;
+  }
+
+  // ==================================================
+  // 구성
+  // ==================================================
+  /**
+   * 값 추가 (0 이상). 행 번호 순서로 추가하면 마지막 컨테이너에 바로 붙음
+   */
+  public void add(int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Negative value: " + value);
+    }
+    char high = (char) (value >>> 16);
+    char low = (char) value;
+    int index = size > 0 && keys[size - 1] == high ? size - 1 : indexOf(high);
+    if (index >= 0) {
+      containers[index] = containers[index].add(low);
+    }
+    else {
+      insert(-index - 1, high, new ArrayContainer().add(low));
+    }
+  }
+
+  public boolean contains(int value) {
+    if (value < 0) {
+      return false;
+    }
+    int index = indexOf((char) (value >>> 16));
+    return index >= 0 && containers[index].contains((char) value);
+  }
+
+  public int cardinality() {
+    int total = 0;
+    for (int i = 0; i < size; i++) {
+      total += containers[i].cardinality();
+    }
+    return total;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  // ==================================================
+  // 집합 연산 (결과는 새 비트맵)
+  // ==================================================
+  public CompressedBitmap and(CompressedBitmap other) {
+    CompressedBitmap result = new CompressedBitmap(Math.max(1, Math.min(size, other.size)));
+    int i = 0;
+    int j = 0;
+    while (i < size && j < other.size) {
+      if (keys[i] < other.keys[j]) {
+        i++;
+      }
+      else if (keys[i] > other.keys[j]) {
+        j++;
+      }
+      else {
+        result.appendIfNotEmpty(keys[i], containers[i].and(other.containers[j]));
+        i++;
+        j++;
+      }
+    }
+    return result;
+  }
+
+  public CompressedBitmap or(CompressedBitmap other) {
+    CompressedBitmap result = new CompressedBitmap(Math.max(1, size + other.size));
+    int i = 0;
+    int j = 0;
+    while (i < size || j < other.size) {
+      if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+        result.append(keys[i], containers[i].copy());
+        i++;
+      }
+      else if (i == size || keys[i] > other.keys[j]) {
+        result.append(other.keys[j], other.containers[j].copy());
+        j++;
+      }
+      else {
+        result.append(keys[i], containers[i].or(other.containers[j]));
+        i++;
+        j++;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * this - other
+   */
+  public CompressedBitmap andNot(CompressedBitmap other) {
+    CompressedBitmap result = new CompressedBitmap(Math.max(1, size));
+    int j = 0;
+    for (int i = 0; i < size; i++) {
+      while (j < other.size && other.keys[j] < keys[i]) {
+        j++;
+      }
+      if (j < other.size && other.keys[j] == keys[i]) {
+        result.appendIfNotEmpty(keys[i], containers[i].andNot(other.containers[j]));
+      }
+      else {
+        result.append(keys[i], containers[i].copy());
+      }
+    }
+    return result;
+  }
+
+  /**
+   * [0, universe) 안에서 여집합 (행 개수를 universe로 전달)
+   */
+  public CompressedBitmap not(int universe) {
+    return range(universe).andNot(this);
+  }
+
+  // ==================================================
+  // 순회
+  // ==================================================
+  public void forEach(IntConsumer action) {
+    for (int i = 0; i < size; i++) {
+      containers[i].forEach(keys[i] << 16, action);
+    }
+  }
+
+  public int[] toArray() {
+    int[] result = new int[cardinality()];
+    int[] k = { 0 };
+    forEach(value -> result[k[0]++] = value);
+    return result;
+  }
+
+  public IntStream stream() {
+    return IntStream.of(toArray());
+  }
+
+  /**
+   * 컨테이너 구성 (배열/비트맵 개수)과 메모리 사용량 추정
+   */
+  @Override
+  public String toString() {
+    int arrays = 0;
+    long bytes = size * 2L;
+    for (int i = 0; i < size; i++) {
+      if (containers[i] instanceof ArrayContainer) {
+        arrays++;
+      }
+      bytes += containers[i].sizeInBytes();
+    }
+    return String.format("CompressedBitmap{cardinality=%d, arrayContainers=%d, bitmapContainers=%d, ~%d bytes}",
+        cardinality(), arrays, size - arrays, bytes);
+  }
+
+  // ==================================================
+  // 키 배열 관리
+  // ==================================================
+  private int indexOf(char key) {
+    return Arrays.binarySearch(keys, 0, size, key);
+  }
+
+  private void insert(int index, char key, Container container) {
+    if (size == keys.length) {
+      keys = Arrays.copyOf(keys, size * 2);
+      containers = Arrays.copyOf(containers, size * 2);
+    }
+    System.arraycopy(keys, index, keys, index + 1, size - index);
+    System.arraycopy(containers, index, containers, index + 1, size - index);
+    keys[index] = key;
+    containers[index] = container;
+    size++;
+  }
+
+  private void append(char key, Container container) {
+    insert(size, key, container);
+  }
+
+  private void appendIfNotEmpty(char key, Container container) {
+    if (container.cardinality() > 0) {
+      append(key, container);
+    }
+  }
+
+  // ==================================================
+  // 컨테이너
+  // ==================================================
+  private abstract static class Container {
+
+    abstract Container add(char value);
+
+    abstract boolean contains(char value);
+
+    abstract int cardinality();
+
+    abstract Container and(Container other);
+
+    abstract Container or(Container other);
+
+    abstract Container andNot(Container other);
+
+    abstract Container copy();
+
+    abstract void forEach(int base, IntConsumer action);
+
+    abstract int sizeInBytes();
+
+  }
+
+  /**
+   * 정렬된 char[] (값 4096개 이하)
+   */
+  private static final class ArrayContainer extends Container {
+
+    private char[] values;
+    private int cardinality;
+
+    ArrayContainer() {
+      this(new char[4], 0);
+    }
+
+    ArrayContainer(char[] values, int cardinality) {
+      this.values = values;
+      this.cardinality = cardinality;
+    }
+
+    @Override
+    Container add(char value) {
+      int index = cardinality > 0 && values[cardinality - 1] < value
+          ? -cardinality - 1
+          : Arrays.binarySearch(values, 0, cardinality, value);
+      if (index >= 0) {
+        return this;
+      }
+      if (cardinality == ARRAY_MAX) {
+        return toBitmap().add(value);
+      }
+      index = -index - 1;
+      if (cardinality == values.length) {
+        values = Arrays.copyOf(values, Math.min(ARRAY_MAX, cardinality * 2));
+      }
+      System.arraycopy(values, index, values, index + 1, cardinality - index);
+      values[index] = value;
+      cardinality++;
+      return this;
+    }
+
+    @Override
+    boolean contains(char value) {
+      return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+    }
+
+    @Override
+    int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    Container and(Container other) {
+      char[] result = new char[cardinality];
+      int k = 0;
+      if (other instanceof ArrayContainer) {
+        ArrayContainer that = (ArrayContainer) other;
+        int i = 0;
+        int j = 0;
+        while (i < cardinality && j < that.cardinality) {
+          if (values[i] < that.values[j]) {
+            i++;
+          }
+          else if (values[i] > that.values[j]) {
+            j++;
+          }
+          else {
+            result[k++] = values[i];
+            i++;
+            j++;
+          }
+        }
+      }
+      else {
+        for (int i = 0; i < cardinality; i++) {
+          if (other.contains(values[i])) {
+            result[k++] = values[i];
+          }
+        }
+      }
+      return new ArrayContainer(result, k);
+    }
+
+    @Override
+    Container or(Container other) {
+      if (other instanceof BitmapContainer) {
+        return other.or(this);
+      }
+      ArrayContainer that = (ArrayContainer) other;
+      if (cardinality + that.cardinality > ARRAY_MAX) {
+        return toBitmap().or(that);
+      }
+      char[] result = new char[cardinality + that.cardinality];
+      int i = 0;
+      int j = 0;
+      int k = 0;
+      while (i < cardinality || j < that.cardinality) {
+        if (j == that.cardinality || (i < cardinality && values[i] < that.values[j])) {
+          result[k++] = values[i++];
+        }
+        else if (i == cardinality || values[i] > that.values[j]) {
+          result[k++] = that.values[j++];
+        }
+        else {
+          result[k++] = values[i];
+          i++;
+          j++;
+        }
+      }
+      return new ArrayContainer(result, k);
+    }
+
+    @Override
+    Container andNot(Container other) {
+      char[] result = new char[cardinality];
+      int k = 0;
+      for (int i = 0; i < cardinality; i++) {
+        if (!other.contains(values[i])) {
+          result[k++] = values[i];
+        }
+      }
+      return new ArrayContainer(result, k);
+    }
+
+    @Override
+    Container copy() {
+      return new ArrayContainer(Arrays.copyOf(values, cardinality), cardinality);
+    }
+
+    @Override
+    void forEach(int base, IntConsumer action) {
+      for (int i = 0; i < cardinality; i++) {
+        action.accept(base | values[i]);
+      }
+    }
+
+    @Override
+    int sizeInBytes() {
+      return values.length * 2;
+    }
+
+    BitmapContainer toBitmap() {
+      BitmapContainer bitmap = new BitmapContainer(new long[BITMAP_WORDS], 0);
+      for (int i = 0; i < cardinality; i++) {
+        bitmap.add(values[i]);
+      }
+      return bitmap;
+    }
+
+  }
+
+  /**
+   * long[1024] = 65536비트 (값 4096개 초과)
+   */
+  private static final class BitmapContainer extends Container {
+
+    private final long[] words;
+    private int cardinality;
+
+    BitmapContainer(long[] words, int cardinality) {
+      this.words = words;
+      this.cardinality = cardinality;
+    }
+
+    /**
+     * [0, length) 비트가 모두 켜진 컨테이너
+     */
+    static Container full(int length) {
+      if (length <= ARRAY_MAX) {
+        char[] values = new char[length];
+        for (int i = 0; i < length; i++) {
+          values[i] = (char) i;
+        }
+        return new ArrayContainer(values, length);
+      }
+      long[] words = new long[BITMAP_WORDS];
+      Arrays.fill(words, 0, length >>> 6, -1L);
+      if ((length & 63) != 0) {
+        words[length >>> 6] = (1L << length) - 1;
+      }
+      return new BitmapContainer(words, length);
+    }
+
+    @Override
+    Container add(char value) {
+      long before = words[value >>> 6];
+      long after = before | (1L << value);
+      words[value >>> 6] = after;
+      if (before != after) {
+        cardinality++;
+      }
+      return this;
+    }
+
+    @Override
+    boolean contains(char value) {
+      return (words[value >>> 6] & (1L << value)) != 0;
+    }
+
+    @Override
+    int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    Container and(Container other) {
+      if (other instanceof ArrayContainer) {
+        return other.and(this);
+      }
+      long[] that = ((BitmapContainer) other).words;
+      long[] result = new long[BITMAP_WORDS];
+      int count = 0;
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        result[i] = words[i] & that[i];
+        count += Long.bitCount(result[i]);
+      }
+      return shrink(result, count);
+    }
+
+    @Override
+    Container or(Container other) {
+      long[] result = words.clone();
+      if (other instanceof ArrayContainer) {
+        ArrayContainer that = (ArrayContainer) other;
+        BitmapContainer merged = new BitmapContainer(result, cardinality);
+        for (int i = 0; i < that.cardinality; i++) {
+          merged.add(that.values[i]);
+        }
+        return merged;
+      }
+      long[] that = ((BitmapContainer) other).words;
+      int count = 0;
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        result[i] |= that[i];
+        count += Long.bitCount(result[i]);
+      }
+      return new BitmapContainer(result, count);
+    }
+
+    @Override
+    Container andNot(Container other) {
+      long[] result = words.clone();
+      int count;
+      if (other instanceof ArrayContainer) {
+        ArrayContainer that = (ArrayContainer) other;
+        count = cardinality;
+        for (int i = 0; i < that.cardinality; i++) {
+          char value = that.values[i];
+          if ((result[value >>> 6] & (1L << value)) != 0) {
+            result[value >>> 6] &= ~(1L << value);
+            count--;
+          }
+        }
+      }
+      else {
+        long[] that = ((BitmapContainer) other).words;
+        count = 0;
+        for (int i = 0; i < BITMAP_WORDS; i++) {
+          result[i] &= ~that[i];
+          count += Long.bitCount(result[i]);
+        }
+      }
+      return shrink(result, count);
+    }
+
+    @Override
+    Container copy() {
+      return new BitmapContainer(words.clone(), cardinality);
+    }
+
+    @Override
+    void forEach(int base, IntConsumer action) {
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        long word = words[i];
+        while (word != 0) {
+          action.accept(base | (i << 6) | Long.numberOfTrailingZeros(word));
+          word &= word - 1;
+        }
+      }
+    }
+
+    @Override
+    int sizeInBytes() {
+      return BITMAP_WORDS * 8;
+    }
+
+    /**
+     * 연산 결과가 4096개 이하로 줄면 배열 컨테이너로 변환
+     */
+    private static Container shrink(long[] words, int count) {
+      if (count > ARRAY_MAX) {
+        return new BitmapContainer(words, count);
+      }
+      char[] values = new char[count];
+      int k = 0;
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        long word = words[i];
+        while (word != 0) {
+          values[k++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+          word &= word - 1;
+        }
+      }
+      return new ArrayContainer(values, count);
+    }
+
+  }
+
+}
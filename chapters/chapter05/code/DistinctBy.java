@@ -0,0 +1,380 @@
+package chapter05.code;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 기본형 키로 중복 제거하는 distinctBy
+ *
+ * Stream.distinct()의 비용:
+ * - 요소마다 hashCode/equals 호출 (Trader면 이름 + 도시 문자열 해싱/비교)
+ * - 순차: 내부 HashSet에 요소를 담음 → 요소마다 엔트리 객체 할당
+ * - 순서 있는 병렬: 구간마다 LinkedHashSet을 만들고 왼쪽에서 오른쪽으로 병합 (전체를 모은 뒤 다시 스트림)
+ *
+ * distinctBy:
+ * - 키 추출 함수로 int/long 키를 얻고 기본형 오픈 어드레싱 집합(LongHashSet)에 기록
+ *   → 박싱/엔트리 할당 없음, 키 비교는 long 비교 한 번
+ * - 순서 유지 (distinctByInt / distinctByLong)
+ *   - 순차: 원본을 하나씩 읽으며 집합 하나로 거름 (처음 나온 요소 통과, 단락 평가 유지)
+ *   - 병렬: 구간마다 (키 집합, 요소 리스트)를 모으고 왼쪽 + 오른쪽 순서로 병합
+ *     → 결과는 순차 distinct와 같은 요소, 같은 순서
+ *   - 순차/병렬은 호출 시점이 아니라 최종 연산 시점에 결정
+ *     → 반환된 스트림에 parallel() / sequential()을 호출해도 스레드 안전하지 않은 집합을 공유하지 않음
+ * - 순서 무관 (distinctByIntUnordered / distinctByLongUnordered)
+ *   - 항상 ConcurrentLongSet 하나를 공유하고 filter만 함 (모으기/병합 없음)
+ *     → 나중에 병렬로 바뀌어도 안전, 순차에서는 잠금이 경합 없이 지나감
+ *   - 같은 키 중 어떤 요소가 남는지는 병렬 실행마다 다를 수 있음
+ *
+ * 키가 같으면 같은 요소로 취급 → 키는 요소를 유일하게 식별해야 함 (id, 코드 등)
+ * 결과 스트림은 지연 평가: 최종 연산을 호출할 때 원본을 소비
+ */
+public final class DistinctBy {
+
+  private DistinctBy() {
+  }
+
+  public static void main(String... args) {
+    int size = 20_000_000;
+    int keys = 1_000_000;
+    System.out.printf("요소 %,d개, 고유 키 %,d개%n", size, keys);
+
+    for (int round = 1; round <= 3; round++) {
+      long start = System.nanoTime();
+      long distinct = source(size, keys).parallel().distinct().count();
+      System.out.printf("%d회차 parallel distinct           : %,d (%d ms)%n", round, distinct,
+          (System.nanoTime() - start) / 1_000_000);
+
+      start = System.nanoTime();
+      distinct = source(size, keys).parallel().unordered().distinct().count();
+      System.out.printf("%d회차 parallel unordered distinct : %,d (%d ms)%n", round, distinct,
+          (System.nanoTime() - start) / 1_000_000);
+
+      start = System.nanoTime();
+      distinct = distinctByInt(source(size, keys).parallel(), Integer::intValue).count();
+      System.out.printf("%d회차 distinctByInt (순서 유지)    : %,d (%d ms)%n", round, distinct,
+          (System.nanoTime() - start) / 1_000_000);
+
+      start = System.nanoTime();
+      distinct = distinctByIntUnordered(source(size, keys).parallel(), Integer::intValue).count();
+      System.out.printf("%d회차 distinctByIntUnordered      : %,d (%d ms)%n", round, distinct,
+          (System.nanoTime() - start) / 1_000_000);
+    }
+
+    List<Integer> expected = source(100_000, 1_000).distinct().toList();
+    List<Integer> actual = distinctByInt(source(100_000, 1_000).parallel(), Integer::intValue).toList();
+    System.out.println("병렬 순서 유지 결과 = 순차 distinct: " + expected.equals(actual));
+    // 순차 스트림으로 만든 뒤 병렬로 바꿔도 최종 연산 시점에 병렬 경로를 사용
+    List<Integer> later = distinctByInt(source(100_000, 1_000), Integer::intValue).parallel().toList();
+    System.out.println("나중에 parallel() 호출한 결과 = 순차 distinct: " + expected.equals(later));
+  }
+
+  /**
+   * 키가 [0, keys) 범위에서 섞여 반복되는 Integer 스트림 (요소를 미리 저장하지 않음)
+   */
+  static Stream<Integer> source(int size, int keys) {
+    return IntStream.range(0, size)
+        .map(i -> (int) (Integer.toUnsignedLong(i * 0x9e3779b9) % keys))
+        .boxed();
+  }
+
+  // ==================================================
+  // 공개 API
+  // ==================================================
+  /**
+   * 키가 처음 나온 요소만 남김 (encounter order 유지, 병렬로 실행되면 구간 병합)
+   */
+  public static <T> Stream<T> distinctByInt(Stream<T> stream, ToIntFunction<? super T> key) {
+    return distinctByLong(stream, t -> key.applyAsInt(t));
+  }
+
+  public static <T> Stream<T> distinctByLong(Stream<T> stream, ToLongFunction<? super T> key) {
+    return StreamSupport.stream(new OrderedDistinctSpliterator<>(stream, key), stream.isParallel())
+        .onClose(stream::close);
+  }
+
+  /**
+   * 키마다 요소 하나만 남김 (순서 무관, 공유 동시성 집합으로 filter)
+   */
+  public static <T> Stream<T> distinctByIntUnordered(Stream<T> stream, ToIntFunction<? super T> key) {
+    return distinctByLongUnordered(stream, t -> key.applyAsInt(t));
+  }
+
+  public static <T> Stream<T> distinctByLongUnordered(Stream<T> stream, ToLongFunction<? super T> key) {
+    ConcurrentLongSet seen = new ConcurrentLongSet();
+    return stream.unordered().filter(t -> seen.add(key.applyAsLong(t)));
+  }
+
+  /**
+   * 순서 유지 distinct의 지연 소스: 최종 연산이 처음 호출하는 메서드로 실행 방식을 정함
+   *
+   * - tryAdvance / forEachRemaining이 먼저 → 순차: 원본 Spliterator를 LongHashSet으로 거름
+   * - trySplit이 먼저 (병렬 최종 연산) → 원본을 병렬 collect로 구간 병합한 리스트를 나눠 줌
+   * - 순차로 시작한 뒤의 trySplit은 null (분할하지 않음)
+   */
+  private static final class OrderedDistinctSpliterator<T> implements Spliterator<T> {
+
+    private final Stream<T> stream;
+    private final ToLongFunction<? super T> key;
+    private Spliterator<T> source;
+    private LongHashSet seen;
+    private Spliterator<T> merged;
+    private T current;
+
+    OrderedDistinctSpliterator(Stream<T> stream, ToLongFunction<? super T> key) {
+      this.stream = stream;
+      this.key = key;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      if (merged != null) {
+        return merged.tryAdvance(action);
+      }
+      Spliterator<T> in = sequential();
+      while (in.tryAdvance(t -> current = t)) {
+        T element = current;
+        current = null;
+        if (seen.add(key.applyAsLong(element))) {
+          action.accept(element);
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+      if (merged != null) {
+        merged.forEachRemaining(action);
+        return;
+      }
+      Spliterator<T> in = sequential();
+      LongHashSet keys = seen;
+      in.forEachRemaining(t -> {
+        if (keys.add(key.applyAsLong(t))) {
+          action.accept(t);
+        }
+      });
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+      if (source != null) {
+        return null;
+      }
+      if (merged == null) {
+        merged = stream.parallel()
+            .collect(() -> new OrderedChunk<T>(key), OrderedChunk::add, OrderedChunk::addAll)
+            .elements.spliterator();
+      }
+      return merged.trySplit();
+    }
+
+    @Override
+    public long estimateSize() {
+      if (merged != null) {
+        return merged.estimateSize();
+      }
+      return source != null ? source.estimateSize() : Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+      return merged != null ? merged.characteristics() : ORDERED;
+    }
+
+    private Spliterator<T> sequential() {
+      if (source == null) {
+        source = stream.sequential().spliterator();
+        seen = new LongHashSet();
+      }
+      return source;
+    }
+
+  }
+
+  /**
+   * 순서 있는 병렬 distinct의 구간 결과: 이 구간에서 처음 나온 키와 그 요소
+   */
+  private static final class OrderedChunk<T> {
+
+    private final ToLongFunction<? super T> key;
+    private final LongHashSet keys = new LongHashSet();
+    final List<T> elements = new ArrayList<>();
+
+    OrderedChunk(ToLongFunction<? super T> key) {
+      this.key = key;
+    }
+
+    void add(T element) {
+      if (keys.add(key.applyAsLong(element))) {
+        elements.add(element);
+      }
+    }
+
+    /**
+     * this가 앞쪽 구간 → 오른쪽 구간의 요소 중 앞쪽에 없던 키만 뒤에 붙임
+     */
+    void addAll(OrderedChunk<T> right) {
+      for (T element : right.elements) {
+        add(element);
+      }
+    }
+
+  }
+
+  // ==================================================
+  // 기본형 집합
+  // ==================================================
+  /**
+   * long 오픈 어드레싱 집합 (선형 탐사, 적재율 1/2 초과 시 2배 확장)
+   *
+   * 0은 빈 칸 표시로 쓰므로 키 0의 존재는 따로 기록
+   */
+  static final class LongHashSet {
+
+    private long[] table;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+
+    LongHashSet() {
+      this(16);
+    }
+
+    LongHashSet(int capacity) {
+      int tableSize = Integer.highestOneBit(Math.max(capacity * 2 - 1, 16)) << 1;
+      table = new long[tableSize];
+      mask = tableSize - 1;
+    }
+
+    /**
+     * @return 새로 추가되었으면 true
+     */
+    boolean add(long key) {
+      if (key == 0) {
+        if (containsZero) {
+          return false;
+        }
+        containsZero = true;
+        return true;
+      }
+      int i = slot(key, mask);
+      long current;
+      while ((current = table[i]) != 0) {
+        if (current == key) {
+          return false;
+        }
+        i = (i + 1) & mask;
+      }
+      table[i] = key;
+      if (++size > table.length >>> 1) {
+        resize();
+      }
+      return true;
+    }
+
+    boolean contains(long key) {
+      if (key == 0) {
+        return containsZero;
+      }
+      for (int i = slot(key, mask); table[i] != 0; i = (i + 1) & mask) {
+        if (table[i] == key) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    int size() {
+      return containsZero ? size + 1 : size;
+    }
+
+    private void resize() {
+      long[] old = table;
+      table = new long[old.length << 1];
+      mask = table.length - 1;
+      for (long key : old) {
+        if (key != 0) {
+          int i = slot(key, mask);
+          while (table[i] != 0) {
+            i = (i + 1) & mask;
+          }
+          table[i] = key;
+        }
+      }
+    }
+
+  }
+
+  /**
+   * 스레드 안전한 long 집합 (줄무늬 잠금)
+   *
+   * 키의 해시 상위 비트로 LongHashSet 조각 하나를 고르고 그 조각만 잠금
+   * → 서로 다른 조각에 쓰는 스레드는 경합하지 않음, 확장도 조각 단위
+   */
+  static final class ConcurrentLongSet {
+
+    private final LongHashSet[] stripes;
+    private final int shift;
+
+    ConcurrentLongSet() {
+      this(Runtime.getRuntime().availableProcessors() * 16);
+    }
+
+    ConcurrentLongSet(int concurrency) {
+      int count = Integer.highestOneBit(Math.max(concurrency * 2 - 1, 2));
+      stripes = new LongHashSet[count];
+      for (int i = 0; i < count; i++) {
+        stripes[i] = new LongHashSet();
+      }
+      shift = 64 - Integer.numberOfTrailingZeros(count);
+    }
+
+    boolean add(long key) {
+      LongHashSet stripe = stripes[(int) (mix(key) >>> shift)];
+      synchronized (stripe) {
+        return stripe.add(key);
+      }
+    }
+
+    boolean contains(long key) {
+      LongHashSet stripe = stripes[(int) (mix(key) >>> shift)];
+      synchronized (stripe) {
+        return stripe.contains(key);
+      }
+    }
+
+    int size() {
+      int size = 0;
+      for (LongHashSet stripe : stripes) {
+        synchronized (stripe) {
+          size += stripe.size();
+        }
+      }
+      return size;
+    }
+
+  }
+
+  /**
+   * 조각 선택(상위 비트)과 테이블 위치(하위 비트)가 서로 다른 비트를 쓰도록 섞음
+   */
+  private static long mix(long key) {
+    key = (key ^ (key >>> 33)) * 0xff51afd7ed558ccdL;
+    key = (key ^ (key >>> 33)) * 0xc4ceb9fe1a85ec53L;
+    return key ^ (key >>> 33);
+  }
+
+  private static int slot(long key, int mask) {
+    return (int) mix(key) & mask;
+  }
+
+}
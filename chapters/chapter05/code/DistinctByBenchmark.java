@@ -0,0 +1,58 @@
+package chapter05.code;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 병렬 중복 제거: Stream.distinct vs DistinctBy
+ *
+ * 데이터:
+ * - DistinctBy.source: 키가 [0, keys)에서 섞여 반복되는 Integer 스트림 (요소를 저장하지 않음)
+ * - size=10^8에서 순서 있는 parallelDistinct는 한 번에 수십 초 걸릴 수 있음
+ *   → distinctBy만 측정: -p size=100000000 'DistinctByBenchmark.distinctBy'
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = { "-Xms8G", "-Xmx8G" })
+@Measurement(iterations = 2)
+@Warmup(iterations = 3)
+public class DistinctByBenchmark {
+
+  @Param({ "10000000", "100000000" })
+  private int size;
+
+  @Param({ "1000", "1000000" })
+  private int keys;
+
+  @Benchmark
+  public long parallelDistinct() {
+    return DistinctBy.source(size, keys).parallel().distinct().count();
+  }
+
+  @Benchmark
+  public long parallelUnorderedDistinct() {
+    return DistinctBy.source(size, keys).parallel().unordered().distinct().count();
+  }
+
+  @Benchmark
+  public long distinctByInt() {
+    return DistinctBy.distinctByInt(DistinctBy.source(size, keys).parallel(), Integer::intValue).count();
+  }
+
+  @Benchmark
+  public long distinctByIntUnordered() {
+    return DistinctBy.distinctByIntUnordered(DistinctBy.source(size, keys).parallel(), Integer::intValue).count();
+  }
+
+}
@@ -0,0 +1,393 @@
+package chapter05.code;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 인덱스로 접근하고 분할할 수 있는 피보나치 수열 소스
+ *
+ * Stream.iterate(new int[] { 0, 1 }, t -> new int[] { t[1], t[0] + t[1] })의 문제:
+ * - 요소마다 int[] 할당
+ * - int는 F(47)에서 오버플로 (조용히 음수가 됨)
+ * - 각 요소가 이전 요소에 의존 → 병렬 스트림이 분할하지 못함 (사실상 순차)
+ *
+ * 빠른 배가법 (fast doubling):
+ * - F(2k)   = F(k) · (2F(k+1) - F(k))
+ * - F(2k+1) = F(k)² + F(k+1)²
+ * - i의 비트를 위에서부터 따라가며 (F(k), F(k+1))을 두 배 (+1) → O(log i)번 곱셈
+ *
+ * 스트림 소스 (구간 [from, to)):
+ * - SIZED | SUBSIZED Spliterator → 구간의 가운데에서 정확히 반으로 분할
+ * - 분할된 뒤쪽 절반은 처음 요소를 빠른 배가법으로 계산한 뒤 덧셈으로 진행
+ * - 앞쪽 절반은 이미 계산된 상태를 그대로 이어 받음
+ *
+ * 타입:
+ * - long: F(92)까지 (F(93)은 long 범위를 넘음 → 인덱스 검사)
+ * - BigInteger: 제한 없음
+ *
+ * 체크포인트 (선택):
+ * - Checkpoints(stride): stride 배수 인덱스의 (F(k), F(k+1))을 캐시
+ * - 같은 구간을 여러 번 질의하거나 여러 스트림이 겹치는 구간을 읽을 때
+ *   위치 잡기 = 캐시 조회 + stride 미만의 덧셈 (큰 BigInteger 곱셈 없음)
+ */
+public final class Fibonacci {
+
+  /**
+   * long으로 표현할 수 있는 마지막 인덱스 (F(92) = 7540113804746346429)
+   */
+  public static final int MAX_LONG_INDEX = 92;
+
+  private Fibonacci() {
+  }
+
+  public static void main(String... args) {
+    System.out.println("Stream.iterate (int)  F(45..48): " + Stream.iterate(new int[] { 0, 1 }, t -> new int[] { t[1], t[0] + t[1] })
+        .skip(45).limit(4).map(t -> String.valueOf(t[0])).toList());
+    System.out.println("Fibonacci.longs       F(45..48): " + longs(45, 49).boxed().toList());
+    System.out.println("F(92)                          : " + fibonacci(MAX_LONG_INDEX));
+    System.out.println("F(1000) 자릿수                 : " + bigFibonacci(1000).toString().length());
+    System.out.println();
+
+    // 순차 합과 병렬 합 비교 (분할된 구간마다 빠른 배가법으로 시작)
+    int n = 200_000;
+    long start = System.nanoTime();
+    BigInteger sequential = bigIntegers(0, n).reduce(BigInteger.ZERO, BigInteger::add);
+    System.out.printf("F(0..%d) 합 비트 수 (순차)   : %d (%d ms)%n", n - 1, sequential.bitLength(),
+        (System.nanoTime() - start) / 1_000_000);
+    start = System.nanoTime();
+    BigInteger parallel = bigIntegers(0, n).parallel().reduce(BigInteger.ZERO, BigInteger::add);
+    System.out.printf("F(0..%d) 합 비트 수 (병렬)   : %d (%d ms)%n", n - 1, parallel.bitLength(),
+        (System.nanoTime() - start) / 1_000_000);
+    // Σ F(0..n-1) = F(n+1) - 1
+    System.out.println("F(n+1) - 1과 같음              : " + parallel.equals(bigFibonacci(n + 1).subtract(BigInteger.ONE)));
+
+    Checkpoints checkpoints = new Checkpoints(1_000);
+    System.out.println("체크포인트로 F(150000..150002) : " + bigIntegers(150_000, 150_003, checkpoints)
+        .map(BigInteger::bitLength).toList() + " 비트, 캐시 " + checkpoints.size() + "개");
+  }
+
+  // ==================================================
+  // 단일 값
+  // ==================================================
+  /**
+   * F(i) (long)
+   *
+   * @throws IllegalArgumentException i가 0 미만이거나 MAX_LONG_INDEX보다 큰 경우
+   */
+  public static long fibonacci(int i) {
+    checkLongIndex(i);
+    return longPair(i)[0];
+  }
+
+  /**
+   * F(i) (BigInteger)
+   */
+  public static BigInteger bigFibonacci(int i) {
+    if (i < 0) {
+      throw new IllegalArgumentException("Negative index: " + i);
+    }
+    return bigPair(i)[0];
+  }
+
+  /**
+   * (F(i), F(i+1)), 빠른 배가법
+   *
+   * i = MAX_LONG_INDEX이면 F(i+1)은 오버플로된 값 (사용하지 않음)
+   * 중간 계산의 오버플로는 2^64 나머지 연산이므로 최종 F(i)에 영향 없음
+   */
+  private static long[] longPair(int i) {
+    long a = 0;
+    long b = 1;
+    for (int bit = Integer.highestOneBit(i); bit != 0; bit >>>= 1) {
+      long c = a * (2 * b - a);
+      long d = a * a + b * b;
+      if ((i & bit) == 0) {
+        a = c;
+        b = d;
+      }
+      else {
+        a = d;
+        b = c + d;
+      }
+    }
+    return new long[] { a, b };
+  }
+
+  private static BigInteger[] bigPair(int i) {
+    BigInteger a = BigInteger.ZERO;
+    BigInteger b = BigInteger.ONE;
+    for (int bit = Integer.highestOneBit(i); bit != 0; bit >>>= 1) {
+      BigInteger c = a.multiply(b.shiftLeft(1).subtract(a));
+      BigInteger d = a.multiply(a).add(b.multiply(b));
+      if ((i & bit) == 0) {
+        a = c;
+        b = d;
+      }
+      else {
+        a = d;
+        b = c.add(d);
+      }
+    }
+    return new BigInteger[] { a, b };
+  }
+
+  // ==================================================
+  // 스트림 소스
+  // ==================================================
+  /**
+   * F(0) ~ F(MAX_LONG_INDEX)
+   */
+  public static LongStream longs() {
+    return longs(0, MAX_LONG_INDEX + 1);
+  }
+
+  /**
+   * F(from) ~ F(to - 1)
+   */
+  public static LongStream longs(int from, int to) {
+    checkRange(from, to);
+    if (to > MAX_LONG_INDEX + 1) {
+      throw new IllegalArgumentException("F(" + (to - 1) + ") does not fit in a long, use bigIntegers");
+    }
+    return StreamSupport.longStream(new LongFibonacciSpliterator(from, to), false);
+  }
+
+  /**
+   * F(from) ~ F(to - 1)
+   */
+  public static Stream<BigInteger> bigIntegers(int from, int to) {
+    return bigIntegers(from, to, null);
+  }
+
+  /**
+   * F(from) ~ F(to - 1), 분할 지점의 위치 잡기에 체크포인트 사용 (checkpoints가 null이면 빠른 배가법)
+   */
+  public static Stream<BigInteger> bigIntegers(int from, int to, Checkpoints checkpoints) {
+    checkRange(from, to);
+    return StreamSupport.stream(new BigFibonacciSpliterator(from, to, checkpoints), false);
+  }
+
+  private static void checkRange(int from, int to) {
+    if (from < 0 || from > to) {
+      throw new IllegalArgumentException("Invalid range: [" + from + ", " + to + ")");
+    }
+  }
+
+  private static void checkLongIndex(int i) {
+    if (i < 0 || i > MAX_LONG_INDEX) {
+      throw new IllegalArgumentException("Index out of long range [0, " + MAX_LONG_INDEX + "]: " + i);
+    }
+  }
+
+  /**
+   * [index, end)의 long 피보나치 Spliterator
+   *
+   * 상태 (current, next) = (F(index), F(index + 1))는 처음 사용할 때 계산
+   */
+  private static final class LongFibonacciSpliterator implements Spliterator.OfLong {
+
+    private int index;
+    private final int end;
+    private boolean positioned;
+    private long current;
+    private long next;
+
+    LongFibonacciSpliterator(int index, int end) {
+      this.index = index;
+      this.end = end;
+    }
+
+    private void position() {
+      if (!positioned) {
+        long[] pair = longPair(index);
+        current = pair[0];
+        next = pair[1];
+        positioned = true;
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+      if (index >= end) {
+        return false;
+      }
+      position();
+      action.accept(current);
+      long sum = current + next;
+      current = next;
+      next = sum;
+      index++;
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+      if (index >= end) {
+        return;
+      }
+      position();
+      long a = current;
+      long b = next;
+      for (int i = index; i < end; i++) {
+        action.accept(a);
+        long sum = a + b;
+        a = b;
+        b = sum;
+      }
+      current = a;
+      next = b;
+      index = end;
+    }
+
+    /**
+     * 앞쪽 절반은 현재 상태를 이어 받고, 이 Spliterator는 가운데부터 다시 위치를 잡음
+     */
+    @Override
+    public Spliterator.OfLong trySplit() {
+      int mid = (index + end) >>> 1;
+      if (mid <= index) {
+        return null;
+      }
+      LongFibonacciSpliterator prefix = new LongFibonacciSpliterator(index, mid);
+      if (positioned) {
+        prefix.current = current;
+        prefix.next = next;
+        prefix.positioned = true;
+      }
+      index = mid;
+      positioned = false;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+    }
+
+  }
+
+  /**
+   * [index, end)의 BigInteger 피보나치 Spliterator (LongFibonacciSpliterator와 같은 구조)
+   */
+  private static final class BigFibonacciSpliterator implements Spliterator<BigInteger> {
+
+    private int index;
+    private final int end;
+    private final Checkpoints checkpoints;
+    private BigInteger current;
+    private BigInteger next;
+
+    BigFibonacciSpliterator(int index, int end, Checkpoints checkpoints) {
+      this.index = index;
+      this.end = end;
+      this.checkpoints = checkpoints;
+    }
+
+    private void position() {
+      if (current == null) {
+        BigInteger[] pair = checkpoints == null ? bigPair(index) : checkpoints.seek(index);
+        current = pair[0];
+        next = pair[1];
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super BigInteger> action) {
+      if (index >= end) {
+        return false;
+      }
+      position();
+      action.accept(current);
+      BigInteger sum = current.add(next);
+      current = next;
+      next = sum;
+      index++;
+      return true;
+    }
+
+    @Override
+    public Spliterator<BigInteger> trySplit() {
+      int mid = (index + end) >>> 1;
+      if (mid <= index) {
+        return null;
+      }
+      BigFibonacciSpliterator prefix = new BigFibonacciSpliterator(index, mid, checkpoints);
+      prefix.current = current;
+      prefix.next = next;
+      index = mid;
+      current = null;
+      next = null;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+    }
+
+  }
+
+  // ==================================================
+  // 체크포인트
+  // ==================================================
+  /**
+   * stride 배수 인덱스의 (F(k), F(k+1)) 캐시 (스레드 안전)
+   *
+   * seek(i): i 이하의 가장 가까운 체크포인트에서 i까지 덧셈으로 진행
+   * → 덧셈 최대 stride - 1번 (stride를 너무 크게 잡으면 빠른 배가법보다 느림)
+   */
+  public static final class Checkpoints {
+
+    private final int stride;
+    private final Map<Integer, BigInteger[]> cache = new ConcurrentHashMap<>();
+
+    public Checkpoints(int stride) {
+      if (stride <= 0) {
+        throw new IllegalArgumentException("stride must be positive: " + stride);
+      }
+      this.stride = stride;
+    }
+
+    /**
+     * (F(i), F(i+1))
+     */
+    public BigInteger[] seek(int i) {
+      int base = i / stride * stride;
+      BigInteger[] pair = cache.computeIfAbsent(base / stride, k -> bigPair(base));
+      BigInteger a = pair[0];
+      BigInteger b = pair[1];
+      for (int k = base; k < i; k++) {
+        BigInteger sum = a.add(b);
+        a = b;
+        b = sum;
+      }
+      return new BigInteger[] { a, b };
+    }
+
+    /**
+     * 캐시된 체크포인트 수
+     */
+    public int size() {
+      return cache.size();
+    }
+
+  }
+
+}
@@ -208,6 +208,26 @@ public class Filtering {
     
     System.out.println();
 
+    // --------------------------------------------------
+    // 3-4. SortedView - 이진 탐색으로 경계 찾기
+    // --------------------------------------------------
+    System.out.println("=== 3-4. Sorted menu sliced by binary search (SortedView) ===");
+    
+    /**
+     * takeWhile / dropWhile도 경계까지는 요소를 하나씩 검사 → O(경계 위치)
+     * 
+     * SortedView (칼로리 키로 정렬된 리스트의 뷰):
+     * - takeWhile / dropWhile / range의 경계를 이진 탐색으로 → O(log n)
+     * - 결과는 원본을 복사하지 않는 하위 뷰, stream()은 SIZED로 분할 가능
+     * - 조건은 정렬 순서에 대해 단조여야 함 (앞쪽 true, 뒤쪽 false)
+     */
+    SortedView<Dish> sortedMenu = SortedView.of(specialMenu, Dish::getCalories);
+    System.out.println("takeWhile(< 320): " + sortedMenu.takeWhile(dish -> dish.getCalories() < 320));
+    System.out.println("dropWhile(< 320): " + sortedMenu.dropWhile(dish -> dish.getCalories() < 320));
+    System.out.println("range(300, 400) : " + sortedMenu.range(300, 400));
+    
+    System.out.println();
+
     // ==================================================
     // 4. 스트림 축소 - limit()
     // ==================================================
@@ -279,6 +299,62 @@ public class Filtering {
     dishesSkip2.forEach(System.out::println);
     
     System.out.println();
+
+    // ==================================================
+    // 6. 반복되는 조합 조건 - 비트맵 인덱스
+    // ==================================================
+    System.out.println("=== 6. Compound predicates with bitmap indexes ===");
+
+    /**
+     * BitmapIndex + CompressedBitmap
+     *
+     * filter의 비용:
+     * - 질의마다 전체 요소를 다시 순회하며 predicate 호출
+     *
+     * 비트맵 인덱스:
+     * - 속성별 행 번호 집합을 한 번만 구축
+     * - 조합 조건은 비트맵 and / or / andNot 연산으로 계산
+     * - 개수만 필요하면 요소를 읽지 않음 (cardinality)
+     *
+     * 사용 시나리오:
+     * - 같은 데이터에 여러 조건 조합을 반복해서 질의 (대시보드, 필터 UI)
+     *
+     * 예시: 채식이 아니고 300 칼로리 초과인 MEAT 요리
+     */
+    BitmapIndex<Dish> index = new BitmapIndex<>(Dish.menu);
+    CompressedBitmap vegetarian = index.bitmapOf(Dish::isVegetarian);
+    CompressedBitmap over300 = index.bitmapOf(d -> d.getCalories() > 300);
+    CompressedBitmap meat = index.bitmapsOf(Dish.Type.class, Dish::getType).get(Dish.Type.MEAT);
+
+    CompressedBitmap result = meat.and(over300).andNot(vegetarian);
+    System.out.println("비채식 AND 300 칼로리 초과 AND MEAT (" + result.cardinality() + "개):");
+    index.select(result).forEach(System.out::println);
+
+    System.out.println();
+    
+    // ==================================================
+    // 7. 기본형 키로 중복 제거 (DistinctBy)
+    // ==================================================
+    System.out.println("=== 7. distinctBy with primitive keys ===");
+
+    /**
+     * distinct()는 요소의 hashCode/equals와 박싱된 HashSet 사용
+     * 순서 있는 병렬 스트림이면 구간마다 LinkedHashSet을 만들어 병합 → 매우 비쌈
+     *
+     * DistinctBy:
+     * - int/long 키 추출 함수 + 기본형 해시 집합
+     * - distinctByInt: 순서 유지 (순차 distinct와 같은 결과)
+     * - distinctByIntUnordered: 순서 무관, 병렬이면 공유 동시성 집합으로 filter만
+     */
+    System.out.println("원본: " + numbers);
+    System.out.println("distinctByInt: " + DistinctBy.distinctByInt(numbers.stream(), Integer::intValue)
+        .collect(toList()));
+    System.out.println("distinctByIntUnordered (병렬, 순서 무관): "
+        + DistinctBy.distinctByIntUnordered(numbers.parallelStream(), Integer::intValue)
+            .sorted()
+            .collect(toList()));
+
+    System.out.println();
     
     // ==================================================
     // 요약
@@ -288,8 +364,11 @@ public class Filtering {
     System.out.println("distinct: 중복 제거 (hashCode/equals 사용)");
     System.out.println("takeWhile: 조건이 false까지 (조기 종료, 정렬 데이터)");
     System.out.println("dropWhile: 조건이 false부터 (정렬 데이터)");
+    System.out.println("SortedView: 정렬된 List/배열에서 경계를 이진 탐색 (O(log n), 복사 없는 뷰)");
     System.out.println("limit: 처음 n개만 (쇼트서킷)");
     System.out.println("skip: 처음 n개 제외");
+    System.out.println("비트맵 인덱스: 반복되는 조합 조건을 비트맵 연산으로");
+    System.out.println("distinctBy: int/long 키로 중복 제거 (기본형 집합, 박싱/equals 없음)");
   }
 }
 
@@ -301,6 +380,7 @@ public class Filtering {
  * ├─────────────┼──────────────┼──────────────┼─────────────┤
  * │ filter      │ 예           │ 무상태      │ 아니오      │
  * │ distinct    │ 예           │ 상태 있음   │ 아니오      │
+ * │ distinctBy  │ 예           │ 상태 있음   │ 아니오      │
  * │ takeWhile   │ 조건까지     │ 무상태      │ 예          │
  * │ dropWhile   │ 조건부터     │ 무상태      │ 예          │
  * │ limit       │ n개까지      │ 무상태      │ 예          │
@@ -315,10 +395,16 @@ public class Filtering {
  * 5. 개수 제한 → limit
  * 6. 일부 건너뛰기 → skip
  * 7. 페이징 → skip + limit
+ * 8. 같은 데이터에 조합 조건을 반복 질의 → BitmapIndex (조건별 비트맵 + and/or/andNot)
+ * 9. id/코드 같은 기본형 키로 중복 제거 → DistinctBy.distinctByInt / distinctByLong
+ * 10. 정렬된 List/배열을 키 범위로 반복해서 자르기 → SortedView (takeWhile/dropWhile/range)
  * 
  * 성능 팁:
  * - filter 연산은 가장 먼저 배치
  * - 정렬된 데이터는 takeWhile/dropWhile 활용
+ *   (데이터가 RandomAccess List나 배열이면 SortedView로 경계를 이진 탐색 → 앞부분을 순회하지 않음)
  * - limit는 쇼트서킷 → 일찍 배치
  * - distinct는 비용이 큼 → 필요시에만 사용
+ * - 같은 조건 조합을 여러 번 질의하면 비트맵을 한 번 구축해 재사용 (개수만 필요하면 요소를 읽지 않음)
+ * - 요소를 int/long 키로 식별할 수 있으면 distinctBy (순서 무관이면 Unordered가 병렬에서 더 빠름)
  */
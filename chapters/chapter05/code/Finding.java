@@ -130,6 +130,25 @@ public class Finding {
      */
     Optional<Dish> dish = findVegetarianDish();
     dish.ifPresent(d -> System.out.println("찾은 채식 요리: " + d.getName()));
+    System.out.println();
+
+    // ==================================================
+    // 5. 협력적 취소 병렬 검색 (CancellableSearch)
+    // ==================================================
+    System.out.println("=== 5. Cancellable parallel search ===");
+    
+    /**
+     * 병렬 findAny/anyMatch는 결과가 정해진 뒤에도
+     * 이미 실행 중인 작업이 자기 구간을 계속 검사할 수 있음
+     * → 조건 검사가 비쌀수록 낭비
+     * 
+     * CancellableSearch:
+     * - 일치를 찾으면 공유 상태로 모든 작업에 알림 → 요소마다 확인하고 멈춤
+     * - 검사한 요소 수 / 결과가 정해진 뒤의 검사 수 / 첫 일치까지의 시간 보고
+     */
+    CancellableSearch.Result<Dish> result = CancellableSearch.findFirst(Dish.menu, Dish::isVegetarian);
+    System.out.println("첫 채식 요리: " + result.getValue().map(Dish::getName).orElse("-")
+        + " (검사 " + result.getExamined() + "개)");
   }
 
   /**
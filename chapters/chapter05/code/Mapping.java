@@ -143,6 +143,24 @@ public class Mapping {
     
     pairs.forEach(pair -> 
         System.out.printf("(%d, %d) → 합: %d%n", pair[0], pair[1], pair[0] + pair[1]));
+    System.out.println();
+
+    // ==================================================
+    // 5. 코드 포인트 단위 고유 문자와 빈도 (CharacterStats)
+    // ==================================================
+    System.out.println("=== 5. Code points with flatMapToInt ===");
+    
+    /**
+     * 3번의 split("")은 문자마다 String을 만들고 HashSet<String>으로 중복 제거
+     * 
+     * CharacterStats:
+     * - flatMapToInt(CharSequence::codePoints) → IntStream (문자열 할당 없음)
+     * - 고유 문자는 비트셋, 빈도는 코드 포인트별 카운터 배열
+     * - 보충 문자(이모지 등)도 한 문자로 처리
+     */
+    List<String> texts = Arrays.asList("Hello", "World", "안녕", "😀");
+    System.out.println("고유 문자: " + CharacterStats.distinct(CharacterStats.codePoints(texts)));
+    System.out.println("문자 빈도: " + CharacterStats.histogram(texts).toMap());
   }
 }
 
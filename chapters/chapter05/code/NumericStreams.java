@@ -169,6 +169,26 @@ public class NumericStreams {
     System.out.println("처음 5개:");
     pythagoreanTriples2.limit(5)
         .forEach(t -> System.out.println(t[0] + "² + " + t[1] + "² = " + t[2] + "²"));
+    System.out.println();
+
+    // ==================================================
+    // 7. 피타고라스 수 (유클리드 공식 - PythagoreanTriples)
+    // ==================================================
+    System.out.println("=== 7. Pythagorean triples (Euclid) ===");
+
+    /**
+     * 버전 1, 2는 모든 (a, b) 쌍을 sqrt로 검사 (O(N²))
+     *
+     * 유클리드 공식 (m > n, 서로소, m - n 홀수):
+     * - (m² - n², 2mn, m² + n²)와 그 k배가 모든 피타고라스 수
+     * - 답만 생성, 검사/박싱/빈 배열 할당 없음
+     * - 순서는 a, b 사전순이 아님 (생성자 순서)
+     */
+    PythagoreanTriples.Counter counter = new PythagoreanTriples.Counter();
+    PythagoreanTriples.forEach(100, counter);
+    System.out.println("a < b <= 100 인 피타고라스 수: " + counter.getCount() + "개");
+    PythagoreanTriples.stream(100).limit(5)
+        .forEach(t -> System.out.println(t[0] + "² + " + t[1] + "² = " + t[2] + "²"));
   }
 
   /**
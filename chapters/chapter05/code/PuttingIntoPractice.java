@@ -4,9 +4,11 @@ import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
+
+import chapter06.code.StreamingJoining;
 
 /**
  * 스트림 실전 연습 - 거래자와 거래 데이터 처리
@@ -24,21 +26,8 @@ public class PuttingIntoPractice {
 
   public static void main(String... args) {
     
-    // 거래자 생성
-    Trader raoul = new Trader("Raoul", "Cambridge");
-    Trader mario = new Trader("Mario", "Milan");
-    Trader alan = new Trader("Alan", "Cambridge");
-    Trader brian = new Trader("Brian", "Cambridge");
-
-    // 거래 내역
-    List<Transaction> transactions = Arrays.asList(
-        new Transaction(brian, 2011, 300),
-        new Transaction(raoul, 2012, 1000),
-        new Transaction(raoul, 2011, 400),
-        new Transaction(mario, 2012, 710),
-        new Transaction(mario, 2012, 700),
-        new Transaction(alan, 2012, 950)
-    );
+    // 거래 내역: Raoul, Alan, Brian (Cambridge), Mario (Milan)의 2011~2012년 거래 6건
+    List<Transaction> transactions = Transaction.sample();
 
     // 질의 1: 2011년 거래 찾아서 금액 오름차순 정렬
     System.out.println("=== Query 1: 2011년 거래 (금액순) ===");
@@ -51,15 +40,30 @@ public class PuttingIntoPractice {
 
     // 질의 2: 거래자가 근무하는 모든 도시 (중복 제거)
     System.out.println("=== Query 2: 거래자 근무 도시 ===");
+
+    // 방법 1: distinct (도시 문자열 hashCode/equals)
     List<String> cities = transactions.stream()
         .map(transaction -> transaction.getTrader().getCity())
         .distinct()
         .collect(toList());
     System.out.println(cities);
+
+    // 방법 2: 도시 코드로 중복 제거 (DistinctBy + TraderTransactions)
+    // 거래자 이름 → id 변환은 파이프라인 전에 한 번 (TraderTransactions의 id 컬럼)
+    // 파이프라인에서는 행 번호 → id → 도시 코드(int)만 읽고 기본형 집합에 기록 → 문자열 해싱/비교 없음
+    TraderTransactions byId = new TraderTransactions(transactions, new TraderRegistry());
+    TraderRegistry registry = byId.registry();
+    List<String> cityNames = DistinctBy.distinctByInt(IntStream.range(0, byId.size()).boxed(),
+            row -> registry.cityCodeOf(byId.traderIdAt(row)))
+        .map(row -> registry.cityOf(byId.traderIdAt(row)))
+        .collect(toList());
+    System.out.println("distinctByInt: " + cityNames);
     System.out.println();
 
     // 질의 3: Cambridge 거래자 찾아서 이름순 정렬
     System.out.println("=== Query 3: Cambridge 거래자 ===");
+
+    // 방법 1: Trader.distinct()
     List<Trader> traders = transactions.stream()
         .map(Transaction::getTrader)
         .filter(trader -> trader.getCity().equals("Cambridge"))
@@ -67,12 +71,18 @@ public class PuttingIntoPractice {
         .sorted(comparing(Trader::getName))
         .collect(toList());
     traders.forEach(System.out::println);
+
+    // 방법 2: 거래자 id (TraderRegistry)
+    // distinct()는 Trader.hashCode/equals로 이름+도시 문자열을 해싱/비교
+    // id로 바꾸면 boolean[] 확인만 남고, 도시가 바뀌어도 같은 거래자로 식별
+    System.out.println("id: " + byId.tradersInCity("Cambridge"));
     System.out.println();
 
     // 질의 4: 모든 거래자 이름을 알파벳순 정렬하여 문자열로
     System.out.println("=== Query 4: 모든 거래자 이름 ===");
     
     // 방법 1: reduce
+    // 단계마다 새 String을 만들어 앞부분을 다시 복사 → 이름 n개면 O(n²) 복사
     String traderStr = transactions.stream()
         .map(transaction -> transaction.getTrader().getName())
         .distinct()
@@ -80,13 +90,21 @@ public class PuttingIntoPractice {
         .reduce("", (n1, n2) -> n1 + n2);
     System.out.println("reduce: " + traderStr);
     
-    // 방법 2: joining (더 효율적)
+    // 방법 2: joining (내부 StringBuilder 하나에 이어 붙임 → O(n), 구분자 지원)
     String traderStr2 = transactions.stream()
         .map(transaction -> transaction.getTrader().getName())
         .distinct()
         .sorted()
         .collect(joining(", "));
     System.out.println("joining: " + traderStr2);
+    
+    // 방법 3: 결과 문자열 없이 출력 대상에 바로 쓰기 (StreamingJoining, 순차 스트림 전용)
+    // 이름이 많아도 전체 문자열을 메모리에 만들지 않음
+    System.out.print("joinTo: ");
+    StreamingJoining.joinTo(transactions.stream()
+        .map(transaction -> transaction.getTrader().getName())
+        .distinct()
+        .sorted(), System.out, ", ", "", "\n");
     System.out.println();
 
     // 질의 5: Milan에 거래자가 있는가?
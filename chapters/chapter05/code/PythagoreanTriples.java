@@ -0,0 +1,288 @@
+package chapter05.code;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 피타고라스 수 생성 엔진 (유클리드 공식)
+ *
+ * NumericStreams 버전 1, 2의 비용 (빗변이 아닌 두 변의 상한 N):
+ * - 모든 (a, b) 쌍 N²/2개를 검사 → N = 10^7이면 5×10^13번
+ * - 쌍마다 Math.sqrt, a는 boxed()로 Integer 박싱
+ * - 버전 2는 삼각형이 아닌 쌍에도 double[]을 할당
+ *
+ * 유클리드 공식:
+ * - m > n > 0, gcd(m, n) = 1, m - n 홀수 → (m² - n², 2mn, m² + n²)는 원시 피타고라스 수
+ * - 모든 피타고라스 수는 원시 수의 k배로 정확히 한 번씩 나옴
+ * - 검사 없이 답만 생성 → 작업량 = 답의 개수 (N = 10^7이면 약 2,700만 개)
+ *
+ * 결과 범위/형식은 NumericStreams와 같음:
+ * - a < b <= N (c는 N보다 클 수 있음), 원시 수의 배수 포함
+ * - 출력 순서는 다름: 생성자 m, n, 배수 k 순서 (a, b 사전순 아님)
+ *
+ * 할당 없는 출력: TripleConsumer.accept(a, b, c) (int[] 없음)
+ *
+ * 병렬: m 구간을 나누는 Spliterator
+ * - m 하나의 작업량 ≈ N / (2m) (작은 m일수록 배수 k가 많음)
+ * - 개수로 반씩 나누면 앞쪽 구간에 작업이 몰림
+ *   → 구간 [lo, hi)를 기하 평균 √(lo·hi)에서 분할 (작업량 ∝ ln(hi / lo)을 반씩)
+ */
+public final class PythagoreanTriples {
+
+  /**
+   * m², 빗변, k배 변이 int 범위를 넘지 않는 최대 상한
+   */
+  public static final int MAX_BOUND = 1_000_000_000;
+
+  /**
+   * 할당 없는 피타고라스 수 출력
+   */
+  @FunctionalInterface
+  public interface TripleConsumer {
+
+    void accept(int a, int b, int c);
+
+  }
+
+  private PythagoreanTriples() {
+  }
+
+  public static void main(String... args) {
+    System.out.println("처음 5개 (유클리드 순서):");
+    stream(100).limit(5)
+        .forEach(t -> System.out.println(t[0] + "² + " + t[1] + "² = " + t[2] + "²"));
+
+    long[] expected = IntStream.rangeClosed(1, 1000).boxed()
+        .flatMap(a -> IntStream.rangeClosed(a, 1000)
+            .filter(b -> Math.sqrt(a * a + b * b) % 1 == 0).boxed()
+            .map(b -> new int[] { a, b, (int) Math.sqrt(a * a + b * b) }))
+        .mapToLong(t -> (long) t[0] << 32 | t[1])
+        .toArray();
+    long[] actual = stream(1000).mapToLong(t -> (long) t[0] << 32 | t[1]).sorted().toArray();
+    System.out.println("N = 1000, 버전 1과 같은 결과: " + Arrays.equals(expected, actual) + " (" + actual.length + "개)");
+
+    int bound = 10_000_000;
+    long start = System.nanoTime();
+    Counter sequential = new Counter();
+    forEach(bound, sequential);
+    System.out.printf("N = 10^7, 순차 forEach  : %s (%d ms)%n", sequential, (System.nanoTime() - start) / 1_000_000);
+    start = System.nanoTime();
+    Counter parallel = collect(bound, Counter::new, Counter::combine);
+    System.out.printf("N = 10^7, 병렬 collect  : %s (%d ms)%n", parallel, (System.nanoTime() - start) / 1_000_000);
+    System.out.println("N = 10^7, 개수 (원시 수만 순회): " + count(bound));
+  }
+
+  // ==================================================
+  // 순차
+  // ==================================================
+  /**
+   * a < b <= bound 인 모든 피타고라스 수를 sink로
+   */
+  public static void forEach(int bound, TripleConsumer sink) {
+    generators(bound).forEach(m -> forEachOfGenerator(m, bound, sink));
+  }
+
+  /**
+   * a < b <= bound 인 피타고라스 수의 개수 (배수 k는 나눗셈 한 번으로 셈)
+   */
+  public static long count(int bound) {
+    return generators(bound).mapToLong(m -> countOfGenerator(m, bound)).sum();
+  }
+
+  /**
+   * NumericStreams와 같은 Stream<int[]> (답에만 int[] 할당)
+   */
+  public static Stream<int[]> stream(int bound) {
+    return generators(bound).boxed()
+        .mapMulti((m, downstream) -> forEachOfGenerator(m, bound,
+            (a, b, c) -> downstream.accept(new int[] { a, b, c })));
+  }
+
+  // ==================================================
+  // 병렬
+  // ==================================================
+  /**
+   * 스레드별 sink에 나누어 생성한 뒤 combiner로 병합
+   *
+   * 사용 예: collect(bound, Counter::new, Counter::combine)
+   */
+  public static <S extends TripleConsumer> S collect(int bound, Supplier<S> supplier, BiConsumer<S, S> combiner) {
+    return generators(bound).parallel()
+        .collect(supplier, (sink, m) -> forEachOfGenerator(m, bound, sink), combiner);
+  }
+
+  /**
+   * 생성자 m의 스트림 (작업량 기준으로 분할되는 Spliterator)
+   */
+  public static IntStream generators(int bound) {
+    if (bound < 1 || bound > MAX_BOUND) {
+      throw new IllegalArgumentException("bound must be in [1, " + MAX_BOUND + "]: " + bound);
+    }
+    // 긴 변 >= (m² - n² + 2mn) / 2 >= m² / 2 → m <= √(2N)
+    int maxM = (int) Math.sqrt(2.0 * bound);
+    return StreamSupport.intStream(new GeneratorSpliterator(2, maxM + 1, bound), false);
+  }
+
+  // ==================================================
+  // 생성자 m 하나의 처리
+  // ==================================================
+  /**
+   * 두 변이 모두 bound 이하인 n 범위만 순회
+   * - 2mn <= N         → n <= N / 2m
+   * - m² - n² <= N     → n >= √(m² - N)
+   */
+  private static void forEachOfGenerator(int m, int bound, TripleConsumer sink) {
+    int last = Math.min(m - 1, bound / (2 * m));
+    for (int n = firstN(m, bound); n <= last; n++) {
+      if (((m - n) & 1) == 0 || gcd(m, n) != 1) {
+        continue;
+      }
+      int p = m * m - n * n;
+      int q = 2 * m * n;
+      int r = m * m + n * n;
+      int a = Math.min(p, q);
+      int b = Math.max(p, q);
+      for (int ka = a, kb = b, kc = r; kb <= bound; ka += a, kb += b, kc += r) {
+        sink.accept(ka, kb, kc);
+      }
+    }
+  }
+
+  private static long countOfGenerator(int m, int bound) {
+    long count = 0;
+    int last = Math.min(m - 1, bound / (2 * m));
+    for (int n = firstN(m, bound); n <= last; n++) {
+      if (((m - n) & 1) == 0 || gcd(m, n) != 1) {
+        continue;
+      }
+      count += bound / Math.max(m * m - n * n, 2 * m * n);
+    }
+    return count;
+  }
+
+  private static int firstN(int m, int bound) {
+    long excess = (long) m * m - bound;
+    if (excess <= 0) {
+      return 1;
+    }
+    int n = (int) Math.sqrt((double) excess);
+    while ((long) n * n < excess) {
+      n++;
+    }
+    return Math.max(n, 1);
+  }
+
+  private static int gcd(int a, int b) {
+    while (b != 0) {
+      int t = a % b;
+      a = b;
+      b = t;
+    }
+    return a;
+  }
+
+  /**
+   * 생성자 구간 [lo, hi)의 Spliterator
+   *
+   * estimateSize는 m 개수가 아니라 예상 작업량 (N / 2 · ln(hi / lo))
+   * → 스트림 프레임워크가 작업이 많은 앞쪽 구간을 더 잘게 분할
+   * (크기가 정확하지 않으므로 SIZED가 아님)
+   */
+  private static final class GeneratorSpliterator implements Spliterator.OfInt {
+
+    private int lo;
+    private final int hi;
+    private final int bound;
+
+    GeneratorSpliterator(int lo, int hi, int bound) {
+      this.lo = lo;
+      this.hi = hi;
+      this.bound = bound;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+      if (lo >= hi) {
+        return false;
+      }
+      action.accept(lo++);
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+      int end = hi;
+      for (int m = lo; m < end; m++) {
+        action.accept(m);
+      }
+      lo = end;
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+      if (hi - lo < 2) {
+        return null;
+      }
+      int mid = (int) Math.sqrt((double) lo * hi);
+      mid = Math.max(lo + 1, Math.min(mid, hi - 1));
+      GeneratorSpliterator prefix = new GeneratorSpliterator(lo, mid, bound);
+      lo = mid;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      if (lo >= hi) {
+        return 0;
+      }
+      return (long) (bound * 0.5 * Math.log((double) hi / lo)) + (hi - lo);
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+    }
+
+  }
+
+  /**
+   * 개수와 c의 합을 세는 sink (벤치마크에서 결과가 버려지지 않도록 합도 유지)
+   */
+  public static final class Counter implements TripleConsumer {
+
+    private long count;
+    private long sumOfC;
+
+    @Override
+    public void accept(int a, int b, int c) {
+      count++;
+      sumOfC += c;
+    }
+
+    public void combine(Counter other) {
+      count += other.count;
+      sumOfC += other.sumOfC;
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public long getSumOfC() {
+      return sumOfC;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("Counter{count=%d, sumOfC=%d}", count, sumOfC);
+    }
+
+  }
+
+}
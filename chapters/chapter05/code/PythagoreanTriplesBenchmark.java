@@ -0,0 +1,80 @@
+package chapter05.code;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import chapter05.code.PythagoreanTriples.Counter;
+
+/**
+ * 피타고라스 수: NumericStreams 버전 1, 2 vs 유클리드 공식 엔진
+ *
+ * 모든 방법이 a < b <= bound 인 피타고라스 수 전체를 세고 c의 합을 구함
+ *
+ * - 버전 1, 2는 O(bound²) → 기본 @Param은 10000까지
+ * - 엔진은 O(답의 개수) → 10^7은 엔진만 따로 실행
+ *   (예: -p bound=10000000 'PythagoreanTriplesBenchmark.engine')
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Measurement(iterations = 2)
+@Warmup(iterations = 3)
+public class PythagoreanTriplesBenchmark {
+
+  @Param({ "1000", "10000" })
+  private int bound;
+
+  @Benchmark
+  public long version1() {
+    int n = bound;
+    return IntStream.rangeClosed(1, n).boxed()
+        .flatMap(a -> IntStream.rangeClosed(a, n)
+            .filter(b -> Math.sqrt(a * a + b * b) % 1 == 0).boxed()
+            .map(b -> new int[] { a, b, (int) Math.sqrt(a * a + b * b) }))
+        .mapToLong(t -> t[2])
+        .sum();
+  }
+
+  @Benchmark
+  public long version2() {
+    int n = bound;
+    return IntStream.rangeClosed(1, n).boxed()
+        .flatMap(a -> IntStream.rangeClosed(a, n)
+            .mapToObj(b -> new double[] { a, b, Math.sqrt(a * a + b * b) })
+            .filter(t -> t[2] % 1 == 0))
+        .map(array -> Arrays.stream(array).mapToInt(a -> (int) a).toArray())
+        .mapToLong(t -> t[2])
+        .sum();
+  }
+
+  @Benchmark
+  public long engineStream() {
+    return PythagoreanTriples.stream(bound).mapToLong(t -> t[2]).sum();
+  }
+
+  @Benchmark
+  public long engineForEach() {
+    Counter counter = new Counter();
+    PythagoreanTriples.forEach(bound, counter);
+    return counter.getSumOfC();
+  }
+
+  @Benchmark
+  public long engineParallelCollect() {
+    return PythagoreanTriples.collect(bound, Counter::new, Counter::combine).getSumOfC();
+  }
+
+}
@@ -0,0 +1,179 @@
+package chapter05.code;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * 병렬에서도 재현 가능한 난수 스트림 소스
+ *
+ * Stream.generate(Math::random)의 문제:
+ * - 크기를 모르고 순서가 없음 (UNORDERED, SIZED 아님) → limit 뒤 분할이 비효율적
+ * - 모든 스레드가 하나의 java.util.Random 공유 → 시드 갱신 CAS 경합
+ * - 어떤 스레드가 몇 번째 값을 받는지가 실행마다 다름 → 시드를 정해도 재현 불가
+ *
+ * SplittableRandom.doubles(n)도 병렬에서는 분할 시점마다 split()한 생성기를 사용
+ * → 분할 트리가 병렬도에 따라 달라지므로 병렬도가 바뀌면 결과가 바뀜
+ *
+ * 이 클래스 (카운터 기반):
+ * - SplittableRandom(seed)의 k번째 nextLong() = mix64(seed + (k + 1) · GAMMA)
+ *   → 요소 i의 값은 (seed, i)만으로 계산 (앞의 요소를 만들 필요 없음)
+ * - LongStream.range(0, count)에 매핑 → SIZED | SUBSIZED, 가운데에서 균등 분할
+ * - 병렬도/분할 방식과 무관하게 요소 i는 항상 같은 값
+ *   순차 결과는 new SplittableRandom(seed)의 longs(count), doubles(count)와 같음
+ * - 공유 상태 없음 → 경합 없이 코어 수에 비례해 확장
+ *
+ * 범위가 있는 int (ints(seed, count, origin, bound)):
+ * - 요소 i 전용 후보열 mix64(state_i + k · GAMMA)에서 거절 샘플링 → 치우침 없음
+ * - 이 경우 값은 SplittableRandom.nextInt(origin, bound)와 다름 (재현성만 보장)
+ */
+public final class RandomStreams {
+
+  /**
+   * SplittableRandom의 기본 gamma (황금비 기반 홀수)
+   */
+  private static final long GAMMA = 0x9e3779b97f4a7c15L;
+
+  private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+  private RandomStreams() {
+  }
+
+  public static void main(String... args) {
+    System.out.println("longs(42, 3)                  : " + longs(42, 3).boxed().toList());
+    System.out.println("SplittableRandom(42).longs(3) : " + new SplittableRandom(42).longs(3).boxed().toList());
+    System.out.println();
+
+    long points = 20_000_000L;
+    for (int parallelism : new int[] { 1, 2, 4, 8 }) {
+      ForkJoinPool pool = new ForkJoinPool(parallelism);
+      try {
+        long start = System.nanoTime();
+        double pi = pool.submit(() -> estimatePi(7, points)).join();
+        System.out.printf("π 추정 (병렬도 %d): %.10f (%d ms)%n", parallelism, pi, (System.nanoTime() - start) / 1_000_000);
+      }
+      finally {
+        pool.shutdown();
+      }
+    }
+
+    for (int parallelism : new int[] { 1, 4 }) {
+      ForkJoinPool pool = new ForkJoinPool(parallelism);
+      try {
+        long below = pool.submit(() -> new SplittableRandom(7).doubles(points).parallel().filter(x -> x < 0.5).count()).join();
+        System.out.printf("SplittableRandom.doubles 중 0.5 미만 (병렬도 %d): %d%n", parallelism, below);
+        below = pool.submit(() -> doubles(7, points).parallel().filter(x -> x < 0.5).count()).join();
+        System.out.printf("RandomStreams.doubles 중 0.5 미만    (병렬도 %d): %d%n", parallelism, below);
+      }
+      finally {
+        pool.shutdown();
+      }
+    }
+    System.out.println("Stream.generate(Math::random) 5개: " + Stream.generate(Math::random).limit(5).toList());
+  }
+
+  /**
+   * 몬테카를로 π: 점 k의 좌표 = 요소 2k, 2k + 1
+   */
+  static double estimatePi(long seed, long points) {
+    long inside = LongStream.range(0, points).parallel()
+        .filter(k -> {
+          double x = doubleAt(seed, 2 * k);
+          double y = doubleAt(seed, 2 * k + 1);
+          return x * x + y * y <= 1.0;
+        })
+        .count();
+    return 4.0 * inside / points;
+  }
+
+  // ==================================================
+  // 스트림 소스
+  // ==================================================
+  public static LongStream longs(long seed, long count) {
+    return LongStream.range(0, checkCount(count)).map(i -> longAt(seed, i));
+  }
+
+  /**
+   * [0, 1) 범위
+   */
+  public static DoubleStream doubles(long seed, long count) {
+    return LongStream.range(0, checkCount(count)).mapToDouble(i -> doubleAt(seed, i));
+  }
+
+  /**
+   * [origin, bound) 범위
+   */
+  public static DoubleStream doubles(long seed, long count, double origin, double bound) {
+    if (!(origin < bound) || !Double.isFinite(bound - origin)) {
+      throw new IllegalArgumentException("Invalid range: [" + origin + ", " + bound + ")");
+    }
+    return LongStream.range(0, checkCount(count)).mapToDouble(i -> {
+      double r = doubleAt(seed, i) * (bound - origin) + origin;
+      return r < bound ? r : Math.nextDown(bound);
+    });
+  }
+
+  /**
+   * [origin, bound) 범위의 균등 분포 int
+   */
+  public static IntStream ints(long seed, long count, int origin, int bound) {
+    if (origin >= bound) {
+      throw new IllegalArgumentException("Invalid range: [" + origin + ", " + bound + ")");
+    }
+    long range = (long) bound - origin;
+    return LongStream.range(0, checkCount(count)).mapToInt(i -> (int) (origin + boundedAt(seed, i, range)));
+  }
+
+  // ==================================================
+  // 요소 i의 값
+  // ==================================================
+  /**
+   * new SplittableRandom(seed)가 i번째(0부터)로 반환하는 nextLong()
+   */
+  public static long longAt(long seed, long index) {
+    return mix64(seed + (index + 1) * GAMMA);
+  }
+
+  /**
+   * new SplittableRandom(seed)가 i번째(0부터)로 반환하는 nextDouble()
+   */
+  public static double doubleAt(long seed, long index) {
+    return (longAt(seed, index) >>> 11) * DOUBLE_UNIT;
+  }
+
+  /**
+   * [0, range) 균등 분포 (range <= 2^32)
+   *
+   * 32비트 후보 r에 대해 r mod range, 마지막 불완전 구간의 후보는 거절하고 다음 후보 사용
+   */
+  private static long boundedAt(long seed, long index, long range) {
+    long state = mix64(seed + (index + 1) * GAMMA);
+    long limit = (1L << 32) - (1L << 32) % range;
+    for (long k = 0; ; k++) {
+      long r = mix64(state + k * GAMMA) >>> 32;
+      if (r < limit) {
+        return r % range;
+      }
+    }
+  }
+
+  /**
+   * SplittableRandom의 출력 함수 (Stafford variant 13)
+   */
+  private static long mix64(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+
+  private static long checkCount(long count) {
+    if (count < 0) {
+      throw new IllegalArgumentException("count must not be negative: " + count);
+    }
+    return count;
+  }
+
+}
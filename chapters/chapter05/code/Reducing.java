@@ -156,6 +156,29 @@ public class Reducing {
         .map(Dish::getCalories)
         .reduce(0, Integer::sum);
     System.out.println("총 칼로리: " + calories + " kcal");
+    System.out.println();
+
+    // ==================================================
+    // 6. 기본형 리듀스 커널 (TransactionColumns)
+    // ==================================================
+    System.out.println("=== 6. Fused primitive reductions ===");
+    
+    /**
+     * mapToInt(...).reduce(0, Integer::max)를 합계/최대/최소마다 따로 실행하면
+     * 질의마다 리스트 전체의 객체를 다시 따라감
+     * 
+     * TransactionColumns.statistics:
+     * - 금액 컬럼(int[])을 한 번의 순회로 count, sum, min, max (큰 데이터는 fork/join 병렬)
+     * - 최소/최대 금액의 행도 같이 기록 → 원본 Transaction을 바로 반환
+     * 
+     * 빈 데이터: statistics는 count 0 (getMax()는 MIN_VALUE), maxValue는 OptionalInt.empty()
+     */
+    List<Transaction> transactions = TransactionStore.randomTransactions(100_000, 42);
+    TransactionStore store = new TransactionStore(transactions);
+    System.out.println("금액 통계: " + store.valueStatistics());
+    System.out.println("최대 금액: " + store.maxValue());
+    System.out.println("2011년   : " + store.valueStatistics(2011));
+    System.out.println("빈 데이터: " + new TransactionStore(List.of()).maxValue());
   }
 }
 
@@ -0,0 +1,368 @@
+package chapter05.code;
+
+import static java.util.Comparator.comparingLong;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import chapter04.code.Dish;
+
+/**
+ * 키로 정렬된 데이터의 슬라이스 뷰 (이진 탐색 takeWhile / dropWhile / 범위)
+ *
+ * 정렬된 데이터에서 Stream.takeWhile / dropWhile (Filtering 3-2, 3-3):
+ * - filter보다 낫지만 경계까지 앞에서부터 요소를 하나씩 검사 → O(경계 위치)
+ * - dropWhile은 버릴 요소를 모두 지나가야 함, 뒤쪽 범위는 O(n)
+ * - 순서 있는 병렬 스트림에서는 경계를 찾기 위해 버퍼링
+ *
+ * SortedView:
+ * - 키 오름차순으로 정렬된 List(RandomAccess) 또는 배열 위의 [from, to) 구간
+ * - 경계를 이진 탐색으로 찾음 → 범위 질의 O(log n) + 결과 순회 O(k)
+ *   - takeWhile(p) / dropWhile(p): p가 앞쪽에서 true, 뒤쪽에서 false인 조건 (정렬 키에 대한 조건)
+ *   - lessThan / atMost / atLeast / greaterThan / range / equalTo: 키 범위
+ * - 결과는 같은 원본을 가리키는 하위 뷰 (복사 없음), 계속 좁혀 나갈 수 있음
+ * - stream()의 Spliterator는 ORDERED | SIZED | SUBSIZED, 가운데에서 인덱스로 분할
+ *
+ * 원본 정렬 확인은 of / ofArray에서 한 번 (O(n)), 이후 원본을 바꾸면 결과는 정의되지 않음
+ */
+public final class SortedView<T> {
+
+  private final List<T> source;
+  private final ToLongFunction<? super T> key;
+  private final int from;
+  private final int to;
+
+  private SortedView(List<T> source, ToLongFunction<? super T> key, int from, int to) {
+    this.source = source;
+    this.key = key;
+    this.from = from;
+    this.to = to;
+  }
+
+  public static void main(String... args) {
+    List<Dish> byCalories = new ArrayList<>(Dish.menu);
+    byCalories.sort(comparingLong(Dish::getCalories));
+    SortedView<Dish> menu = of(byCalories, Dish::getCalories);
+    System.out.println("320 칼로리 미만 : " + menu.takeWhile(dish -> dish.getCalories() < 320).asList());
+    System.out.println("320 칼로리 이상 : " + menu.dropWhile(dish -> dish.getCalories() < 320).asList());
+    System.out.println("400 ~ 700 미만  : " + menu.range(400, 700).asList());
+    System.out.println();
+
+    int size = 10_000_000;
+    Long[] values = new Long[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = (long) i * 3;
+    }
+    List<Long> sorted = Arrays.asList(values);
+    SortedView<Long> view = ofArray(values, Long::longValue);
+    int queries = 200;
+
+    for (int round = 1; round <= 3; round++) {
+      long start = System.nanoTime();
+      long streamSum = 0;
+      for (int q = 0; q < queries; q++) {
+        long low = (long) q * size * 3 / queries;
+        long high = low + 3_000;
+        streamSum += sorted.stream().dropWhile(v -> v < low).takeWhile(v -> v < high).mapToLong(Long::longValue).sum();
+      }
+      long streamTime = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      long viewSum = 0;
+      for (int q = 0; q < queries; q++) {
+        long low = (long) q * size * 3 / queries;
+        viewSum += view.range(low, low + 3_000).stream().mapToLong(Long::longValue).sum();
+      }
+      long viewTime = System.nanoTime() - start;
+
+      System.out.printf("%d회차 dropWhile + takeWhile: %d (%d ms)%n", round, streamSum, streamTime / 1_000_000);
+      System.out.printf("%d회차 SortedView.range     : %d (%d ms)%n", round, viewSum, viewTime / 1_000_000);
+    }
+    System.out.println("뒤쪽 절반 병렬 합: " + view.atLeast((long) size * 3 / 2).parallelStream().mapToLong(Long::longValue).sum());
+  }
+
+  // ==================================================
+  // 생성
+  // ==================================================
+  /**
+   * list가 key 오름차순인지 확인하고 뷰 생성
+   *
+   * RandomAccess가 아닌 리스트(LinkedList 등)는 인덱스 접근이 O(n)이므로 ArrayList로 복사
+   *
+   * @throws IllegalArgumentException 정렬되어 있지 않으면
+   */
+  public static <T> SortedView<T> of(List<T> list, ToLongFunction<? super T> key) {
+    List<T> source = list instanceof RandomAccess ? list : new ArrayList<>(list);
+    checkSorted(source, key);
+    return new SortedView<>(source, key, 0, source.size());
+  }
+
+  /**
+   * 배열을 복사하지 않고 감싼 뷰 (Arrays.asList)
+   */
+  public static <T> SortedView<T> ofArray(T[] array, ToLongFunction<? super T> key) {
+    return of(Arrays.asList(array), key);
+  }
+
+  /**
+   * 복사 후 key 순으로 정렬 (같은 키는 원래 순서 유지)
+   */
+  public static <T> SortedView<T> sortedCopy(Collection<? extends T> elements, ToLongFunction<? super T> key) {
+    List<T> copy = new ArrayList<>(elements);
+    copy.sort(comparingLong(key));
+    return new SortedView<>(copy, key, 0, copy.size());
+  }
+
+  private static <T> void checkSorted(List<T> list, ToLongFunction<? super T> key) {
+    int size = list.size();
+    if (size == 0) {
+      return;
+    }
+    long previous = key.applyAsLong(list.get(0));
+    for (int i = 1; i < size; i++) {
+      long current = key.applyAsLong(list.get(i));
+      if (current < previous) {
+        throw new IllegalArgumentException("Not sorted by key at index " + i + ": " + previous + " > " + current);
+      }
+      previous = current;
+    }
+  }
+
+  // ==================================================
+  // 이진 탐색 슬라이스
+  // ==================================================
+  /**
+   * 앞에서부터 predicate가 true인 동안의 요소 (Stream.takeWhile과 같은 결과)
+   *
+   * predicate는 정렬 순서에 대해 단조여야 함: true인 요소가 모두 false인 요소보다 앞
+   */
+  public SortedView<T> takeWhile(Predicate<? super T> predicate) {
+    return slice(from, firstFalse(predicate));
+  }
+
+  /**
+   * 앞에서부터 predicate가 true인 요소를 버린 나머지 (Stream.dropWhile과 같은 결과)
+   */
+  public SortedView<T> dropWhile(Predicate<? super T> predicate) {
+    return slice(firstFalse(predicate), to);
+  }
+
+  /**
+   * key < bound
+   */
+  public SortedView<T> lessThan(long bound) {
+    return slice(from, lowerBound(bound));
+  }
+
+  /**
+   * key <= bound
+   */
+  public SortedView<T> atMost(long bound) {
+    return slice(from, upperBound(bound));
+  }
+
+  /**
+   * key >= bound
+   */
+  public SortedView<T> atLeast(long bound) {
+    return slice(lowerBound(bound), to);
+  }
+
+  /**
+   * key > bound
+   */
+  public SortedView<T> greaterThan(long bound) {
+    return slice(upperBound(bound), to);
+  }
+
+  /**
+   * fromKey <= key < toKey
+   */
+  public SortedView<T> range(long fromKey, long toKey) {
+    if (fromKey >= toKey) {
+      return slice(from, from);
+    }
+    int start = lowerBound(fromKey);
+    return slice(start, Math.max(start, lowerBound(toKey)));
+  }
+
+  public SortedView<T> equalTo(long value) {
+    return slice(lowerBound(value), upperBound(value));
+  }
+
+  /**
+   * 뷰 안의 위치로 자르기 (subList와 같은 규칙)
+   */
+  public SortedView<T> subView(int fromIndex, int toIndex) {
+    if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", size: " + size());
+    }
+    return slice(from + fromIndex, from + toIndex);
+  }
+
+  /**
+   * predicate가 처음 false가 되는 원본 인덱스 (없으면 to)
+   */
+  private int firstFalse(Predicate<? super T> predicate) {
+    int low = from;
+    int high = to;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (predicate.test(source.get(mid))) {
+        low = mid + 1;
+      }
+      else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * key >= bound인 첫 원본 인덱스
+   */
+  private int lowerBound(long bound) {
+    int low = from;
+    int high = to;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (key.applyAsLong(source.get(mid)) < bound) {
+        low = mid + 1;
+      }
+      else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * key > bound인 첫 원본 인덱스
+   */
+  private int upperBound(long bound) {
+    int low = from;
+    int high = to;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (key.applyAsLong(source.get(mid)) <= bound) {
+        low = mid + 1;
+      }
+      else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private SortedView<T> slice(int start, int end) {
+    return start == from && end == to ? this : new SortedView<>(source, key, start, end);
+  }
+
+  // ==================================================
+  // 접근
+  // ==================================================
+  public int size() {
+    return to - from;
+  }
+
+  public boolean isEmpty() {
+    return from == to;
+  }
+
+  public T get(int index) {
+    if (index < 0 || index >= size()) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+    }
+    return source.get(from + index);
+  }
+
+  /**
+   * 원본을 가리키는 읽기 전용 리스트 (복사 없음)
+   */
+  public List<T> asList() {
+    return Collections.unmodifiableList(source.subList(from, to));
+  }
+
+  public Stream<T> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  public Stream<T> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
+
+  public Spliterator<T> spliterator() {
+    return new SliceSpliterator<>(source, from, to);
+  }
+
+  @Override
+  public String toString() {
+    return asList().toString();
+  }
+
+  /**
+   * 원본 [index, end) 구간, 가운데에서 분할
+   */
+  private static final class SliceSpliterator<T> implements Spliterator<T> {
+
+    private final List<T> source;
+    private int index;
+    private final int end;
+
+    SliceSpliterator(List<T> source, int index, int end) {
+      this.source = source;
+      this.index = index;
+      this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      if (index >= end) {
+        return false;
+      }
+      action.accept(source.get(index++));
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+      for (int i = index; i < end; i++) {
+        action.accept(source.get(i));
+      }
+      index = end;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+      int mid = (index + end) >>> 1;
+      if (mid <= index) {
+        return null;
+      }
+      Spliterator<T> prefix = new SliceSpliterator<>(source, index, mid);
+      index = mid;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | SIZED | SUBSIZED;
+    }
+
+  }
+
+}
@@ -0,0 +1,63 @@
+package chapter05.code;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 문자열 사전 인코딩 (dictionary encoding)
+ *
+ * 개념:
+ * - 서로 다른 문자열마다 0부터 연속된 int 코드 부여
+ * - 컬럼에는 문자열 대신 코드(int)만 저장
+ *
+ * 예시:
+ * ["Cambridge", "Milan", "Cambridge", "Cambridge"]
+ * → 사전: {Cambridge=0, Milan=1}
+ * → 컬럼: [0, 1, 0, 0]
+ *
+ * 장점:
+ * - 비교가 equals() 대신 int ==
+ * - 코드가 연속 → 그룹화 결과를 배열(long[사전 크기])에 바로 누적
+ */
+public class StringDictionary {
+
+  private final Map<String, Integer> codes = new HashMap<>();
+  private final List<String> values = new ArrayList<>();
+
+  /**
+   * 코드 반환, 처음 보는 문자열이면 새 코드 부여
+   */
+  public int encode(String value) {
+    Integer code = codes.get(value);
+    if (code == null) {
+      code = values.size();
+      codes.put(value, code);
+      values.add(value);
+    }
+    return code;
+  }
+
+  /**
+   * 코드 조회, 사전에 없으면 -1
+   */
+  public int codeOf(String value) {
+    Integer code = codes.get(value);
+    return code == null ? -1 : code;
+  }
+
+  public String decode(int code) {
+    return values.get(code);
+  }
+
+  public int size() {
+    return values.size();
+  }
+
+  @Override
+  public String toString() {
+    return codes.toString();
+  }
+
+}
@@ -0,0 +1,106 @@
+package chapter05.code;
+
+import java.util.Arrays;
+
+/**
+ * 거래자 등록부: 거래자마다 변하지 않는 연속 int id
+ *
+ * Trader의 문제:
+ * - hashCode/equals가 name과 city에 의존, city는 setCity로 변경 가능
+ *   → HashSet/HashMap에 넣은 뒤 setCity하면 해시가 바뀌어 찾을 수 없음
+ * - distinct(), groupingBy(Transaction::getTrader)마다 문자열 두 개를 해싱/비교
+ *
+ * TraderRegistry:
+ * - 이름으로 식별 → 처음 등록될 때 0, 1, 2, ... 순서의 id 부여 (StringDictionary)
+ * - 도시는 도시 사전 코드로 id별 배열에 저장
+ * - relocate(id, city): 도시 코드만 바뀌고 id는 그대로 → 이전에 만든 id 배열/인덱스가 유효
+ *
+ * id를 쓰면:
+ * - distinct: boolean[거래자 수]로 확인 (해시 없음)
+ * - 거래자/도시별 그룹: long[거래자 수], long[도시 수]에 바로 누적
+ * - 같은 거래자인가: id ==
+ */
+public class TraderRegistry {
+
+  private final StringDictionary names = new StringDictionary();
+  private final StringDictionary cities = new StringDictionary();
+  private int[] cityOf = new int[16];
+
+  /**
+   * 거래자 등록 (이미 등록된 이름이면 기존 id)
+   *
+   * @throws IllegalStateException 같은 이름이 다른 도시로 이미 등록된 경우 (relocate 사용)
+   */
+  public int register(String name, String city) {
+    int existing = names.codeOf(name);
+    int cityCode = cities.encode(city);
+    if (existing >= 0) {
+      if (cityOf[existing] != cityCode) {
+        throw new IllegalStateException("Trader " + name + " is already registered in "
+            + cities.decode(cityOf[existing]) + ", use relocate to move it to " + city);
+      }
+      return existing;
+    }
+    int id = names.encode(name);
+    if (id == cityOf.length) {
+      cityOf = Arrays.copyOf(cityOf, id * 2);
+    }
+    cityOf[id] = cityCode;
+    return id;
+  }
+
+  public int register(Trader trader) {
+    return register(trader.getName(), trader.getCity());
+  }
+
+  /**
+   * id 조회, 등록되지 않은 이름이면 -1
+   */
+  public int idOf(String name) {
+    return names.codeOf(name);
+  }
+
+  /**
+   * 거래자의 도시 변경 (id와 이 id를 쓰는 모든 거래는 그대로)
+   */
+  public void relocate(int id, String city) {
+    checkId(id);
+    cityOf[id] = cities.encode(city);
+  }
+
+  public String nameOf(int id) {
+    checkId(id);
+    return names.decode(id);
+  }
+
+  public int cityCodeOf(int id) {
+    checkId(id);
+    return cityOf[id];
+  }
+
+  public String cityOf(int id) {
+    return cities.decode(cityCodeOf(id));
+  }
+
+  /**
+   * 출력/기존 API용 Trader 객체 (호출할 때마다 새로 생성)
+   */
+  public Trader toTrader(int id) {
+    return new Trader(nameOf(id), cityOf(id));
+  }
+
+  public int size() {
+    return names.size();
+  }
+
+  public StringDictionary cities() {
+    return cities;
+  }
+
+  private void checkId(int id) {
+    if (id < 0 || id >= names.size()) {
+      throw new IllegalArgumentException("Unknown trader id: " + id);
+    }
+  }
+
+}
@@ -0,0 +1,190 @@
+package chapter05.code;
+
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 거래자를 TraderRegistry id로 참조하는 거래 목록
+ *
+ * 컬럼 (행 = 거래):
+ * - traderIds: 거래자 id
+ * - years, values: 연도, 금액
+ *
+ * 거래자/도시 질의가 int 배열 연산이 됨:
+ * - distinct 거래자: boolean[거래자 수] → 해시/문자열 비교 없음
+ * - 거래자별 집계: long[거래자 수]에 traderIds로 바로 누적
+ * - 도시별 집계: long[도시 수]에 registry의 도시 코드로 누적
+ *
+ * 도시는 행에 복사하지 않고 registry에서 조회
+ * → registry.relocate 이후의 질의는 새 도시 기준으로 집계
+ */
+public class TraderTransactions {
+
+  private final TraderRegistry registry;
+  private final int[] traderIds;
+  private final int[] years;
+  private final int[] values;
+
+  public TraderTransactions(List<Transaction> transactions, TraderRegistry registry) {
+    this.registry = registry;
+    int size = transactions.size();
+    this.traderIds = new int[size];
+    this.years = new int[size];
+    this.values = new int[size];
+    for (int i = 0; i < size; i++) {
+      Transaction t = transactions.get(i);
+      traderIds[i] = registry.register(t.getTrader());
+      years[i] = t.getYear();
+      values[i] = t.getValue();
+    }
+  }
+
+  public static void main(String... args) {
+    List<Transaction> transactions = Transaction.sample();
+
+    TraderRegistry registry = new TraderRegistry();
+    TraderTransactions store = new TraderTransactions(transactions, registry);
+
+    System.out.println("Cambridge 거래자 (스트림): " + transactions.stream()
+        .map(Transaction::getTrader)
+        .filter(trader -> trader.getCity().equals("Cambridge"))
+        .distinct()
+        .sorted(comparing(Trader::getName))
+        .collect(toList()));
+    System.out.println("Cambridge 거래자 (id)    : " + store.tradersInCity("Cambridge"));
+    System.out.println("도시별 금액 합계         : " + store.sumValueByCityName());
+    System.out.println();
+
+    // Trader는 hashCode가 city에 의존 → 집합에 넣은 뒤 도시를 바꾸면 찾지 못함
+    Set<Trader> set = transactions.stream().map(Transaction::getTrader).collect(toCollection(HashSet::new));
+    Trader mario = set.stream().filter(trader -> trader.getName().equals("Mario")).findFirst().orElseThrow();
+    mario.setCity("Cambridge");
+    System.out.println("setCity 후 HashSet.contains(mario): " + set.contains(mario));
+
+    // registry의 id는 이름으로 정해지고 도시 변경과 무관
+    int marioId = registry.idOf("Mario");
+    registry.relocate(marioId, "Cambridge");
+    System.out.println("relocate 후 id                    : " + registry.idOf("Mario") + " (이전 " + marioId + ")");
+    System.out.println("relocate 후 Cambridge 거래자      : " + store.tradersInCity("Cambridge"));
+    System.out.println("relocate 후 도시별 금액 합계      : " + store.sumValueByCityName());
+  }
+
+  public int size() {
+    return traderIds.length;
+  }
+
+  public TraderRegistry registry() {
+    return registry;
+  }
+
+  public int traderIdAt(int row) {
+    return traderIds[row];
+  }
+
+  public int yearAt(int row) {
+    return years[row];
+  }
+
+  public int valueAt(int row) {
+    return values[row];
+  }
+
+  /**
+   * 거래에 나오는 거래자 id (처음 나온 순서, 중복 제거)
+   */
+  public int[] distinctTraderIds() {
+    boolean[] seen = new boolean[registry.size()];
+    int[] result = new int[Math.min(traderIds.length, seen.length)];
+    int count = 0;
+    for (int id : traderIds) {
+      if (!seen[id]) {
+        seen[id] = true;
+        result[count++] = id;
+      }
+    }
+    return Arrays.copyOf(result, count);
+  }
+
+  /**
+   * 질의 3: 도시에서 근무하는 거래자 (이름순)
+   */
+  public List<Trader> tradersInCity(String city) {
+    int cityCode = registry.cities().codeOf(city);
+    List<Trader> result = new ArrayList<>();
+    if (cityCode < 0) {
+      return result;
+    }
+    for (int id : distinctTraderIds()) {
+      if (registry.cityCodeOf(id) == cityCode) {
+        result.add(registry.toTrader(id));
+      }
+    }
+    result.sort(comparing(Trader::getName));
+    return result;
+  }
+
+  /**
+   * 거래자 id별 거래 건수 (인덱스 = id)
+   */
+  public long[] countByTrader() {
+    long[] counts = new long[registry.size()];
+    for (int id : traderIds) {
+      counts[id]++;
+    }
+    return counts;
+  }
+
+  /**
+   * 거래자 id별 금액 합계 (인덱스 = id)
+   */
+  public long[] sumValueByTrader() {
+    long[] sums = new long[registry.size()];
+    for (int i = 0; i < traderIds.length; i++) {
+      sums[traderIds[i]] += values[i];
+    }
+    return sums;
+  }
+
+  /**
+   * 도시 코드별 금액 합계 (인덱스 = registry.cities()의 코드)
+   *
+   * 거래자별로 먼저 모은 뒤 도시로 옮김 → 행마다 도시 조회 없음
+   */
+  public long[] sumValueByCity() {
+    long[] byTrader = sumValueByTrader();
+    long[] sums = new long[registry.cities().size()];
+    for (int id = 0; id < byTrader.length; id++) {
+      sums[registry.cityCodeOf(id)] += byTrader[id];
+    }
+    return sums;
+  }
+
+  /**
+   * 출력용: 도시 이름 → 금액 합계 (거래가 있는 도시만, 이름순)
+   */
+  public Map<String, Long> sumValueByCityName() {
+    long[] sums = sumValueByCity();
+    long[] counts = new long[sums.length];
+    long[] byTrader = countByTrader();
+    for (int id = 0; id < byTrader.length; id++) {
+      counts[registry.cityCodeOf(id)] += byTrader[id];
+    }
+    Map<String, Long> result = new TreeMap<>();
+    for (int code = 0; code < sums.length; code++) {
+      if (counts[code] > 0) {
+        result.put(registry.cities().decode(code), sums[code]);
+      }
+    }
+    return result;
+  }
+
+}
@@ -1,5 +1,7 @@
 package chapter05.code;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -22,6 +24,26 @@ public class Transaction {
     this.value = value;
   }
 
+  /**
+   * 5장 실전 연습의 거래 내역 6건 (거래자 4명)
+   *
+   * Trader는 setCity로 변경 가능하므로 호출할 때마다 새 객체를 만듦
+   */
+  static List<Transaction> sample() {
+    Trader raoul = new Trader("Raoul", "Cambridge");
+    Trader mario = new Trader("Mario", "Milan");
+    Trader alan = new Trader("Alan", "Cambridge");
+    Trader brian = new Trader("Brian", "Cambridge");
+    return Arrays.asList(
+        new Transaction(brian, 2011, 300),
+        new Transaction(raoul, 2012, 1000),
+        new Transaction(raoul, 2011, 400),
+        new Transaction(mario, 2012, 710),
+        new Transaction(mario, 2012, 700),
+        new Transaction(alan, 2012, 950)
+    );
+  }
+
   public Trader getTrader() {
     return trader;
   }
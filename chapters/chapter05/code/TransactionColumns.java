@@ -0,0 +1,517 @@
+package chapter05.code;
+
+import java.util.IntSummaryStatistics;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntPredicate;
+
+/**
+ * 거래 데이터의 컬럼 저장소 (struct-of-arrays)
+ *
+ * List<Transaction> (array-of-structs):
+ * - 리스트 → Transaction 객체 → Trader 객체 → String 객체
+ * - t.getTrader().getCity() 한 번에 참조 3단계 (캐시 미스 가능성)
+ *
+ * TransactionColumns:
+ * - 같은 속성끼리 기본형 배열 하나에 연속 저장
+ *   year[]  : int
+ *   value[] : int
+ *   trader[]: 거래자 이름 사전 코드
+ *   city[]  : 도시 사전 코드
+ * - 쿼리는 필요한 컬럼만 순서대로 읽는 기본형 루프
+ *   → 하드웨어 프리페치와 JIT 루프 최적화가 잘 동작
+ *
+ * 스냅샷:
+ * - 생성 시점의 값을 복사 (이후 Trader.setCity는 반영되지 않음)
+ * - 행마다 원본 Transaction 참조도 보관 → transaction(row)는 이후 리스트가 바뀌어도 같은 객체
+ *
+ * 연산자 (컬럼은 Column으로 지정 → 내부 배열이 밖으로 나가지 않음):
+ * - 필터: rowsWhere(컬럼, 조건) → 행 번호 배열 (selection vector)
+ * - 합계: sum(컬럼), sum(컬럼, 행 번호)
+ * - 그룹: sumByCode(코드 컬럼, 값 컬럼) → long[사전 크기]
+ * - 최소/최대: min(컬럼), max(컬럼), argMin(컬럼)
+ * - 융합 리듀스: statistics(컬럼) → 한 번의 순회로 count, sum, min, max (+ 최소/최대 행)
+ *   - 조건/그룹: statisticsWhereEquals, statisticsBy
+ *   - PARALLEL_THRESHOLD 이상이면 fork/join으로 구간을 나눠 계산 후 병합
+ */
+public class TransactionColumns {
+
+  public enum Column { YEAR, VALUE, TRADER, CITY }
+
+  /**
+   * 이 크기 이상의 구간은 융합 리듀스를 병렬로 계산
+   */
+  static final int PARALLEL_THRESHOLD = 1 << 16;
+
+  private final int size;
+  private final Transaction[] transactions;
+  private final int[] year;
+  private final int[] value;
+  private final int[] trader;
+  private final int[] city;
+  private final StringDictionary traders = new StringDictionary();
+  private final StringDictionary cities = new StringDictionary();
+
+  public TransactionColumns(List<Transaction> transactions) {
+    this.size = transactions.size();
+    this.transactions = transactions.toArray(new Transaction[0]);
+    this.year = new int[size];
+    this.value = new int[size];
+    this.trader = new int[size];
+    this.city = new int[size];
+    for (int i = 0; i < size; i++) {
+      Transaction t = this.transactions[i];
+      year[i] = t.getYear();
+      value[i] = t.getValue();
+      trader[i] = traders.encode(t.getTrader().getName());
+      city[i] = cities.encode(t.getTrader().getCity());
+    }
+  }
+
+  public static void main(String... args) {
+    List<Transaction> transactions = Transaction.sample();
+    TransactionColumns columns = new TransactionColumns(transactions);
+
+    // 질의 6: Cambridge 거래자의 모든 거래 금액 합계
+    System.out.println("=== Query 6 (stream)  : " + transactions.stream()
+        .filter(t -> "Cambridge".equals(t.getTrader().getCity()))
+        .mapToInt(Transaction::getValue)
+        .sum());
+    System.out.println("=== Query 6 (columns) : " + columns.sumValuesInCity("Cambridge"));
+
+    // 질의 7, 8: 최대 금액, 최소 금액 거래
+    System.out.println("=== Query 7 (columns) : " + columns.max(Column.VALUE).getAsInt());
+    System.out.println("=== Query 8 (columns) : " + columns.row(columns.argMin(Column.VALUE)));
+
+    // 합계, 최소, 최대를 한 번의 순회로
+    System.out.println("금액 통계  : " + columns.statistics(Column.VALUE));
+    System.out.println("2012년 통계: " + columns.statisticsWhereEquals(Column.VALUE, Column.YEAR, 2012));
+    System.out.println("최대 거래  : " + columns.maxTransaction(Column.VALUE).get());
+
+    // 2011년 거래의 합계 (필터 → 합계)
+    int[] rows2011 = columns.rowsWhere(Column.YEAR, y -> y == 2011);
+    System.out.println("2011년 합계: " + columns.sum(Column.VALUE, rows2011));
+
+    // 도시별 합계 (그룹)
+    System.out.println("도시별 합계: " + columns.sumValuesByCity());
+  }
+
+  // ==================================================
+  // 컬럼 접근
+  // ==================================================
+  public int size() {
+    return size;
+  }
+
+  public int get(Column column, int row) {
+    if (row < 0 || row >= size) {
+      throw new IndexOutOfBoundsException("Row: " + row + ", size: " + size);
+    }
+    return array(column)[row];
+  }
+
+  /**
+   * 컬럼 복사본 (수정해도 저장소에는 영향 없음)
+   */
+  public int[] copyOf(Column column) {
+    return array(column).clone();
+  }
+
+  public int[] years() {
+    return copyOf(Column.YEAR);
+  }
+
+  public int[] values() {
+    return copyOf(Column.VALUE);
+  }
+
+  public int[] traderCodes() {
+    return copyOf(Column.TRADER);
+  }
+
+  public int[] cityCodes() {
+    return copyOf(Column.CITY);
+  }
+
+  /**
+   * 내부 배열 그대로 (복사 없음) → 같은 패키지의 인덱스 구축/질의에서 읽기 전용으로만 사용
+   */
+  int[] array(Column column) {
+    switch (column) {
+      case YEAR:
+        return year;
+      case VALUE:
+        return value;
+      case TRADER:
+        return trader;
+      case CITY:
+        return city;
+      default:
+        throw new IllegalArgumentException("Unknown column: " + column);
+    }
+  }
+
+  /**
+   * 코드 컬럼의 사전 크기 (TRADER, CITY만)
+   */
+  private int cardinality(Column codeColumn) {
+    switch (codeColumn) {
+      case TRADER:
+        return traders.size();
+      case CITY:
+        return cities.size();
+      default:
+        throw new IllegalArgumentException("Not a code column: " + codeColumn);
+    }
+  }
+
+  public StringDictionary traders() {
+    return traders;
+  }
+
+  public StringDictionary cities() {
+    return cities;
+  }
+
+  /**
+   * 생성 시점 리스트의 row번째 원본 Transaction
+   */
+  public Transaction transaction(int row) {
+    if (row < 0 || row >= size) {
+      throw new IndexOutOfBoundsException("Row: " + row + ", size: " + size);
+    }
+    return transactions[row];
+  }
+
+  /**
+   * 한 행을 컬럼 값으로 새 Transaction 객체로 복원 (결과 출력용)
+   */
+  public Transaction row(int index) {
+    Trader t = new Trader(traders.decode(trader[index]), cities.decode(city[index]));
+    return new Transaction(t, year[index], value[index]);
+  }
+
+  // ==================================================
+  // 필터
+  // ==================================================
+  /**
+   * 조건을 만족하는 행 번호 배열
+   *
+   * 두 번 스캔 (개수 → 채우기) 하여 정확한 크기로 한 번만 할당
+   */
+  public int[] rowsWhere(Column selected, IntPredicate predicate) {
+    int[] column = array(selected);
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      if (predicate.test(column[i])) {
+        count++;
+      }
+    }
+    int[] rows = new int[count];
+    int k = 0;
+    for (int i = 0; i < size; i++) {
+      if (predicate.test(column[i])) {
+        rows[k++] = i;
+      }
+    }
+    return rows;
+  }
+
+  public int[] rowsWhereEquals(Column column, int code) {
+    return rowsWhere(column, c -> c == code);
+  }
+
+  // ==================================================
+  // 합계
+  // ==================================================
+  public long sum(Column selected) {
+    int[] column = array(selected);
+    long sum = 0;
+    for (int i = 0; i < size; i++) {
+      sum += column[i];
+    }
+    return sum;
+  }
+
+  public long sum(Column selected, int[] rows) {
+    int[] column = array(selected);
+    long sum = 0;
+    for (int row : rows) {
+      sum += column[row];
+    }
+    return sum;
+  }
+
+  /**
+   * PuttingIntoPractice 질의 6의 컬럼 버전
+   *
+   * 문자열 비교는 사전 조회 한 번뿐, 루프 안에서는 int 비교
+   */
+  public long sumValuesInCity(String cityName) {
+    int code = cities.codeOf(cityName);
+    if (code < 0) {
+      return 0;
+    }
+    long sum = 0;
+    for (int i = 0; i < size; i++) {
+      if (city[i] == code) {
+        sum += value[i];
+      }
+    }
+    return sum;
+  }
+
+  // ==================================================
+  // 그룹
+  // ==================================================
+  /**
+   * 코드 컬럼별 값 합계
+   *
+   * 결과 배열의 인덱스 = 사전 코드 (해시 맵 없음)
+   */
+  public long[] sumByCode(Column code, Column summed) {
+    int[] codeColumn = array(code);
+    int[] valueColumn = array(summed);
+    long[] sums = new long[cardinality(code)];
+    for (int i = 0; i < size; i++) {
+      sums[codeColumn[i]] += valueColumn[i];
+    }
+    return sums;
+  }
+
+  public Map<String, Long> sumValuesByCity() {
+    long[] sums = sumByCode(Column.CITY, Column.VALUE);
+    Map<String, Long> result = new LinkedHashMap<>();
+    for (int code = 0; code < sums.length; code++) {
+      result.put(cities.decode(code), sums[code]);
+    }
+    return result;
+  }
+
+  // ==================================================
+  // 최소 / 최대
+  // ==================================================
+  public OptionalInt max(Column selected) {
+    int[] column = array(selected);
+    if (size == 0) {
+      return OptionalInt.empty();
+    }
+    int max = column[0];
+    for (int i = 1; i < size; i++) {
+      max = Math.max(max, column[i]);
+    }
+    return OptionalInt.of(max);
+  }
+
+  public OptionalInt min(Column selected) {
+    int[] column = array(selected);
+    if (size == 0) {
+      return OptionalInt.empty();
+    }
+    int min = column[0];
+    for (int i = 1; i < size; i++) {
+      min = Math.min(min, column[i]);
+    }
+    return OptionalInt.of(min);
+  }
+
+  /**
+   * 최소값을 가진 첫 번째 행 번호, 비어 있으면 -1
+   */
+  public int argMin(Column selected) {
+    int[] column = array(selected);
+    int best = -1;
+    for (int i = 0; i < size; i++) {
+      if (best < 0 || column[i] < column[best]) {
+        best = i;
+      }
+    }
+    return best;
+  }
+
+  // ==================================================
+  // 융합 리듀스
+  // ==================================================
+  /**
+   * 컬럼 전체의 count, sum, min, max (한 번의 순회)
+   *
+   * 비어 있으면 빈 IntSummaryStatistics (count 0, min Integer.MAX_VALUE, max Integer.MIN_VALUE)
+   */
+  public IntSummaryStatistics statistics(Column selected) {
+    return reduce(array(selected), null, 0).toStatistics();
+  }
+
+  /**
+   * key 컬럼 값이 code인 행만의 count, sum, min, max
+   *
+   * 예: statisticsWhereEquals(VALUE, YEAR, 2011) → 2011년 거래 금액 통계
+   */
+  public IntSummaryStatistics statisticsWhereEquals(Column selected, Column key, int code) {
+    return reduce(array(selected), array(key), code).toStatistics();
+  }
+
+  /**
+   * key 컬럼 값별 selected 컬럼의 통계 (key 값 오름차순, 행이 있는 값만)
+   *
+   * key 값 범위(최소 ~ 최대) 크기의 누적기 배열에 한 번의 순회로 누적
+   * → YEAR처럼 값 범위가 좁은 컬럼이나 TRADER/CITY 코드 컬럼에 사용
+   */
+  public Map<Integer, IntSummaryStatistics> statisticsBy(Column key, Column selected) {
+    int[] keys = array(key);
+    int[] values = array(selected);
+    Map<Integer, IntSummaryStatistics> result = new TreeMap<>();
+    if (size == 0) {
+      return result;
+    }
+    int min = Integer.MAX_VALUE;
+    int max = Integer.MIN_VALUE;
+    for (int k : keys) {
+      min = Math.min(min, k);
+      max = Math.max(max, k);
+    }
+    Accumulator[] byKey = new Accumulator[Math.toIntExact((long) max - min + 1)];
+    for (int i = 0; i < byKey.length; i++) {
+      byKey[i] = new Accumulator();
+    }
+    for (int i = 0; i < size; i++) {
+      byKey[keys[i] - min].add(values[i], i);
+    }
+    for (int i = 0; i < byKey.length; i++) {
+      if (byKey[i].count > 0) {
+        result.put(min + i, byKey[i].toStatistics());
+      }
+    }
+    return result;
+  }
+
+  /**
+   * selected 값이 최소인 첫 행의 원본 Transaction (비어 있으면 empty)
+   */
+  public Optional<Transaction> minTransaction(Column selected) {
+    Accumulator acc = reduce(array(selected), null, 0);
+    return acc.count == 0 ? Optional.empty() : Optional.of(transactions[acc.argMin]);
+  }
+
+  /**
+   * selected 값이 최대인 첫 행의 원본 Transaction (비어 있으면 empty)
+   */
+  public Optional<Transaction> maxTransaction(Column selected) {
+    Accumulator acc = reduce(array(selected), null, 0);
+    return acc.count == 0 ? Optional.empty() : Optional.of(transactions[acc.argMax]);
+  }
+
+  /**
+   * keys가 null이면 전체, 아니면 keys[i] == key인 행만
+   */
+  private static Accumulator reduce(int[] values, int[] keys, int key) {
+    if (values.length < PARALLEL_THRESHOLD) {
+      return kernel(values, keys, key, 0, values.length);
+    }
+    return ForkJoinPool.commonPool().invoke(new ReduceTask(values, keys, key, 0, values.length));
+  }
+
+  /**
+   * 융합 커널: 한 번의 순회로 count, sum, min, max, argMin, argMax
+   */
+  private static Accumulator kernel(int[] values, int[] keys, int key, int from, int to) {
+    Accumulator acc = new Accumulator();
+    if (keys == null) {
+      for (int i = from; i < to; i++) {
+        acc.add(values[i], i);
+      }
+    }
+    else {
+      for (int i = from; i < to; i++) {
+        if (keys[i] == key) {
+          acc.add(values[i], i);
+        }
+      }
+    }
+    return acc;
+  }
+
+  private static final class ReduceTask extends RecursiveTask<Accumulator> {
+
+    private final int[] values;
+    private final int[] keys;
+    private final int key;
+    private final int from;
+    private final int to;
+
+    ReduceTask(int[] values, int[] keys, int key, int from, int to) {
+      this.values = values;
+      this.keys = keys;
+      this.key = key;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Accumulator compute() {
+      if (to - from <= PARALLEL_THRESHOLD) {
+        return kernel(values, keys, key, from, to);
+      }
+      int mid = (from + to) >>> 1;
+      ReduceTask left = new ReduceTask(values, keys, key, from, mid);
+      left.fork();
+      Accumulator right = new ReduceTask(values, keys, key, mid, to).compute();
+      return left.join().combine(right);
+    }
+
+  }
+
+  /**
+   * count, sum, min, max와 최소/최대 값의 첫 행 번호
+   */
+  private static final class Accumulator {
+
+    long count;
+    long sum;
+    int min = Integer.MAX_VALUE;
+    int max = Integer.MIN_VALUE;
+    int argMin = -1;
+    int argMax = -1;
+
+    void add(int value, int row) {
+      count++;
+      sum += value;
+      if (value < min) {
+        min = value;
+        argMin = row;
+      }
+      if (value > max) {
+        max = value;
+        argMax = row;
+      }
+    }
+
+    /**
+     * this가 왼쪽 구간 → 같은 값이면 왼쪽(앞의 행) 유지
+     */
+    Accumulator combine(Accumulator right) {
+      count += right.count;
+      sum += right.sum;
+      if (right.min < min) {
+        min = right.min;
+        argMin = right.argMin;
+      }
+      if (right.max > max) {
+        max = right.max;
+        argMax = right.argMax;
+      }
+      return this;
+    }
+
+    IntSummaryStatistics toStatistics() {
+      return count == 0 ? new IntSummaryStatistics() : new IntSummaryStatistics(count, min, max, sum);
+    }
+
+  }
+
+}
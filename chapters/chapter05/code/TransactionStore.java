@@ -0,0 +1,410 @@
+package chapter05.code;
+
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Random;
+
+import chapter05.code.TransactionColumns.Column;
+
+/**
+ * PuttingIntoPractice 질의를 위한 인덱스 거래 저장소
+ *
+ * 스트림 질의의 비용 (거래 n건):
+ * - 질의 1: 전체 filter + 정렬 → O(n + k log k)
+ * - 질의 5, 6: 전체 순회 + 문자열 비교
+ * - 질의 7, 8: 전체 순회
+ *
+ * 구성:
+ * - 컬럼: TransactionColumns (연도/금액/거래자 코드/도시 코드)
+ * - 보조 인덱스 (posting list): 연도별, 거래자별, 도시별 행 번호 배열
+ *   → 하나의 int[]에 키 순서로 이어 붙이고 offsets[]로 구간 표시 (CSR 형식)
+ * - 정렬된 금액 런: 모든 posting list의 행 번호를 금액 오름차순으로 저장
+ *   → 질의 1은 정렬 없이 연도 구간을 그대로 읽음
+ *   → 전체 금액순 행 배열의 처음/끝이 질의 8/7의 답
+ * - 금액 통계 (count, sum, min, max): TransactionColumns 융합 리듀스 (한 번의 순회, 큰 데이터는 병렬)
+ *
+ * 플래너 (sumValuesInCity, sumValuesOfTrader):
+ * - posting list 길이 / 전체 행 수 = 선택도
+ * - 선택도가 INDEX_SELECTIVITY 이하면 인덱스 (행 번호로 금액 컬럼을 골라 읽기)
+ * - 그보다 크면 스캔 (코드 컬럼과 금액 컬럼을 순서대로 읽는 편이 캐시에 유리)
+ * - explain...으로 어떤 계획을 골랐는지 확인 가능
+ *
+ * 스냅샷: 생성 이후 원본 리스트/Trader 변경은 인덱스에 반영되지 않음
+ * (질의 1, 8이 돌려주는 Transaction은 생성 시점 리스트의 원본 객체)
+ */
+public class TransactionStore {
+
+  /**
+   * 이 비율 이하의 행만 읽는 질의는 인덱스 사용
+   * (골라 읽기는 스캔보다 행당 비용이 몇 배 크므로 보수적으로 설정)
+   */
+  static final double INDEX_SELECTIVITY = 0.05;
+
+  public enum Plan { INDEX, SCAN, EMPTY }
+
+  private final TransactionColumns columns;
+  private final int minYear;
+  private final Postings byYear;
+  private final Postings byTrader;
+  private final Postings byCity;
+  private final int[] rowsByValue;
+  private final int[] traderCity;
+
+  public TransactionStore(List<Transaction> transactions) {
+    this.columns = new TransactionColumns(transactions);
+    int size = columns.size();
+    int[] years = columns.array(Column.YEAR);
+    int[] traderCodes = columns.array(Column.TRADER);
+    int[] cityCodes = columns.array(Column.CITY);
+    this.rowsByValue = sortedByValue(columns.array(Column.VALUE), size);
+
+    int min = Integer.MAX_VALUE;
+    int max = Integer.MIN_VALUE;
+    for (int year : years) {
+      min = Math.min(min, year);
+      max = Math.max(max, year);
+    }
+    this.minYear = size == 0 ? 0 : min;
+    int[] yearCodes = new int[size];
+    for (int i = 0; i < size; i++) {
+      yearCodes[i] = years[i] - minYear;
+    }
+    this.byYear = new Postings(yearCodes, size == 0 ? 0 : max - min + 1, rowsByValue);
+    this.byTrader = new Postings(traderCodes, columns.traders().size(), rowsByValue);
+    this.byCity = new Postings(cityCodes, columns.cities().size(), rowsByValue);
+
+    // 거래자 이름 코드 → 도시 코드 (같은 이름이 여러 도시에 있으면 질의 3에서 행 단위로 처리)
+    this.traderCity = new int[columns.traders().size()];
+    Arrays.fill(traderCity, -1);
+    for (int i = 0; i < size; i++) {
+      int trader = traderCodes[i];
+      int city = cityCodes[i];
+      traderCity[trader] = traderCity[trader] == -1 || traderCity[trader] == city ? city : -2;
+    }
+  }
+
+  public static void main(String... args) {
+    List<Transaction> transactions = Transaction.sample();
+    TransactionStore store = new TransactionStore(transactions);
+
+    System.out.println("Query 1: " + store.transactionsInYearSortedByValue(2011));
+    System.out.println("Query 2: " + store.cities());
+    System.out.println("Query 3: " + store.tradersInCitySortedByName("Cambridge"));
+    System.out.println("Query 4: " + store.traderNamesSorted(", "));
+    System.out.println("Query 5: " + store.hasTraderIn("Milan"));
+    System.out.println("Query 6: " + store.sumValuesInCity("Cambridge")
+        + " (" + store.explainSumValuesInCity("Cambridge") + ")");
+    System.out.println("Query 7: " + store.maxValue().getAsInt());
+    System.out.println("Query 8: " + store.minValueTransaction());
+    System.out.println();
+
+    List<Transaction> large = randomTransactions(5_000_000, 42);
+    TransactionStore big = new TransactionStore(large);
+    String rareCity = "City" + (CITY_COUNT - 1);
+    long start = System.nanoTime();
+    long streamSum = large.stream().filter(t -> rareCity.equals(t.getTrader().getCity()))
+        .mapToLong(Transaction::getValue).sum();
+    long streamTime = System.nanoTime() - start;
+    start = System.nanoTime();
+    long storeSum = big.sumValuesInCity(rareCity);
+    long storeTime = System.nanoTime() - start;
+    System.out.printf("Query 6 (%s, 5M건): stream=%d (%d ms), store=%d (%d ms, %s)%n", rareCity,
+        streamSum, streamTime / 1_000_000, storeSum, storeTime / 1_000_000, big.explainSumValuesInCity(rareCity));
+    System.out.println("Query 6 (City0): " + big.explainSumValuesInCity("City0"));
+
+    // 합계, 최대, 최소: 스트림 세 번 vs 융합 리듀스 한 번
+    start = System.nanoTime();
+    long sum = large.stream().mapToLong(Transaction::getValue).sum();
+    int max = large.stream().mapToInt(Transaction::getValue).reduce(Integer.MIN_VALUE, Integer::max);
+    int min = large.stream().mapToInt(Transaction::getValue).reduce(Integer.MAX_VALUE, Integer::min);
+    streamTime = System.nanoTime() - start;
+    start = System.nanoTime();
+    IntSummaryStatistics stats = big.valueStatistics();
+    storeTime = System.nanoTime() - start;
+    System.out.printf("금액 통계 (5M건): stream sum=%d, max=%d, min=%d (%d ms), store=%s (%d ms)%n",
+        sum, max, min, streamTime / 1_000_000, stats, storeTime / 1_000_000);
+  }
+
+  // ==================================================
+  // 질의 (PuttingIntoPractice 1 ~ 8)
+  // ==================================================
+  /**
+   * 질의 1: 연도 posting list가 이미 금액순 → 정렬 없이 복원
+   */
+  public List<Transaction> transactionsInYearSortedByValue(int year) {
+    int code = year - minYear;
+    if (code < 0 || code >= byYear.keyCount()) {
+      return new ArrayList<>();
+    }
+    List<Transaction> result = new ArrayList<>(byYear.length(code));
+    for (int i = byYear.start(code); i < byYear.end(code); i++) {
+      result.add(columns.transaction(byYear.rows[i]));
+    }
+    return result;
+  }
+
+  /**
+   * 질의 2: 도시 사전 = 처음 등장한 순서의 중복 없는 도시 → O(도시 수)
+   */
+  public List<String> cities() {
+    List<String> result = new ArrayList<>(columns.cities().size());
+    for (int code = 0; code < columns.cities().size(); code++) {
+      result.add(columns.cities().decode(code));
+    }
+    return result;
+  }
+
+  /**
+   * 질의 3: 도시 posting list의 거래자 코드를 BitSet으로 중복 제거 → 이름순 정렬
+   *
+   * 도시가 한 곳뿐인 거래자는 posting list를 보지 않고 traderCity로 바로 판정
+   */
+  public List<Trader> tradersInCitySortedByName(String cityName) {
+    int city = columns.cities().codeOf(cityName);
+    if (city < 0) {
+      return new ArrayList<>();
+    }
+    BitSet traders = new BitSet(columns.traders().size());
+    boolean needsRows = false;
+    for (int trader = 0; trader < traderCity.length; trader++) {
+      if (traderCity[trader] == city) {
+        traders.set(trader);
+      }
+      else if (traderCity[trader] == -2) {
+        needsRows = true;
+      }
+    }
+    if (needsRows) {
+      for (int i = byCity.start(city); i < byCity.end(city); i++) {
+        traders.set(columns.get(Column.TRADER, byCity.rows[i]));
+      }
+    }
+    return traders.stream()
+        .mapToObj(trader -> new Trader(columns.traders().decode(trader), cityName))
+        .sorted(comparing(Trader::getName))
+        .collect(toList());
+  }
+
+  /**
+   * 질의 4: 거래자 사전을 정렬해서 연결 → O(거래자 수 log 거래자 수)
+   */
+  public String traderNamesSorted(CharSequence delimiter) {
+    String[] names = new String[columns.traders().size()];
+    for (int code = 0; code < names.length; code++) {
+      names[code] = columns.traders().decode(code);
+    }
+    Arrays.sort(names);
+    return Arrays.stream(names).collect(joining(delimiter));
+  }
+
+  /**
+   * 질의 5: 도시 posting list가 비어 있지 않은가 → O(1)
+   */
+  public boolean hasTraderIn(String cityName) {
+    int city = columns.cities().codeOf(cityName);
+    return city >= 0 && byCity.length(city) > 0;
+  }
+
+  /**
+   * 질의 6: 플래너가 인덱스/스캔 선택
+   */
+  public long sumValuesInCity(String cityName) {
+    int city = columns.cities().codeOf(cityName);
+    switch (planFor(byCity, city)) {
+      case INDEX:
+        return byCity.sum(city, columns.array(Column.VALUE));
+      case SCAN:
+        return columns.sumValuesInCity(cityName);
+      default:
+        return 0;
+    }
+  }
+
+  public Plan explainSumValuesInCity(String cityName) {
+    return planFor(byCity, columns.cities().codeOf(cityName));
+  }
+
+  /**
+   * 질의 7: 금액순 행 배열의 마지막 → O(1)
+   *
+   * 거래가 없으면 empty (reduce(0, Integer::max)처럼 0이나 MIN_VALUE를 돌려주지 않음)
+   */
+  public OptionalInt maxValue() {
+    return rowsByValue.length == 0
+        ? OptionalInt.empty()
+        : OptionalInt.of(columns.get(Column.VALUE, rowsByValue[rowsByValue.length - 1]));
+  }
+
+  /**
+   * 질의 8: 금액순 행 배열의 처음 → O(1)
+   *
+   * 금액이 같으면 원래 순서가 앞선 행 (stream().min과 같음)
+   */
+  public Optional<Transaction> minValueTransaction() {
+    return rowsByValue.length == 0
+        ? Optional.empty()
+        : Optional.of(columns.transaction(rowsByValue[0]));
+  }
+
+  // ==================================================
+  // 금액 통계 (융합 리듀스)
+  // ==================================================
+  /**
+   * 전체 거래 금액의 count, sum, min, max
+   *
+   * 거래가 없으면 count 0인 빈 통계 (getMax()는 Integer.MIN_VALUE → count 먼저 확인)
+   */
+  public IntSummaryStatistics valueStatistics() {
+    return columns.statistics(Column.VALUE);
+  }
+
+  public IntSummaryStatistics valueStatistics(int year) {
+    return columns.statisticsWhereEquals(Column.VALUE, Column.YEAR, year);
+  }
+
+  /**
+   * 연도별 금액 통계 (연도순, 한 번의 순회)
+   */
+  public Map<Integer, IntSummaryStatistics> valueStatisticsByYear() {
+    return columns.statisticsBy(Column.YEAR, Column.VALUE);
+  }
+
+  // ==================================================
+  // 그 밖의 인덱스 질의
+  // ==================================================
+  public long countInYear(int year) {
+    int code = year - minYear;
+    return code < 0 || code >= byYear.keyCount() ? 0 : byYear.length(code);
+  }
+
+  public long sumValuesOfTrader(String traderName) {
+    int trader = columns.traders().codeOf(traderName);
+    switch (planFor(byTrader, trader)) {
+      case INDEX:
+        return byTrader.sum(trader, columns.array(Column.VALUE));
+      case SCAN:
+        return columns.sum(Column.VALUE, columns.rowsWhereEquals(Column.TRADER, trader));
+      default:
+        return 0;
+    }
+  }
+
+  public TransactionColumns columns() {
+    return columns;
+  }
+
+  private Plan planFor(Postings index, int key) {
+    if (key < 0 || index.length(key) == 0) {
+      return Plan.EMPTY;
+    }
+    return index.length(key) <= INDEX_SELECTIVITY * columns.size() ? Plan.INDEX : Plan.SCAN;
+  }
+
+  // ==================================================
+  // 인덱스 구축
+  // ==================================================
+  /**
+   * 금액 오름차순 행 번호 (같은 금액은 행 번호 순 → 안정 정렬)
+   *
+   * (금액, 행 번호)를 long 하나로 묶어 기본형 정렬 → Integer[] + Comparator 없이 정렬
+   */
+  private static int[] sortedByValue(int[] values, int size) {
+    long[] packed = new long[size];
+    for (int i = 0; i < size; i++) {
+      packed[i] = ((long) values[i] << 32) | i;
+    }
+    Arrays.sort(packed);
+    int[] rows = new int[size];
+    for (int i = 0; i < size; i++) {
+      rows[i] = (int) packed[i];
+    }
+    return rows;
+  }
+
+  /**
+   * 키 코드별 행 번호 목록 (CSR)
+   *
+   * - offsets[k] ~ offsets[k + 1]: 키 k의 행 번호 구간
+   * - 금액순 행 배열을 순서대로 분배 → 각 구간은 금액 오름차순 (카운팅 정렬, O(n))
+   */
+  private static final class Postings {
+
+    private final int[] offsets;
+    private final int[] rows;
+
+    Postings(int[] keyColumn, int keyCount, int[] rowOrder) {
+      offsets = new int[keyCount + 1];
+      for (int row : rowOrder) {
+        offsets[keyColumn[row] + 1]++;
+      }
+      for (int k = 0; k < keyCount; k++) {
+        offsets[k + 1] += offsets[k];
+      }
+      rows = new int[rowOrder.length];
+      int[] next = Arrays.copyOf(offsets, keyCount);
+      for (int row : rowOrder) {
+        rows[next[keyColumn[row]]++] = row;
+      }
+    }
+
+    int keyCount() {
+      return offsets.length - 1;
+    }
+
+    int start(int key) {
+      return offsets[key];
+    }
+
+    int end(int key) {
+      return offsets[key + 1];
+    }
+
+    int length(int key) {
+      return offsets[key + 1] - offsets[key];
+    }
+
+    long sum(int key, int[] valueColumn) {
+      long sum = 0;
+      for (int i = offsets[key]; i < offsets[key + 1]; i++) {
+        sum += valueColumn[rows[i]];
+      }
+      return sum;
+    }
+
+  }
+
+  // ==================================================
+  // 대용량 예제/벤치마크 데이터
+  // ==================================================
+  static final int CITY_COUNT = 50;
+
+  /**
+   * 거래자 1000명, 도시 50곳 (번호가 큰 도시일수록 거래자가 적음 → 큰 도시와 작은 도시가 섞임),
+   * 연도 2000 ~ 2024, 금액 [0, 10^6)
+   */
+  public static List<Transaction> randomTransactions(int n, long seed) {
+    Random random = new Random(seed);
+    Trader[] traders = new Trader[1000];
+    for (int i = 0; i < traders.length; i++) {
+      int city = Math.min(CITY_COUNT - 1, (int) (Math.pow(random.nextDouble(), 3) * CITY_COUNT));
+      traders[i] = new Trader("Trader" + i, "City" + city);
+    }
+    List<Transaction> result = new ArrayList<>(n);
+    for (int i = 0; i < n; i++) {
+      result.add(new Transaction(traders[random.nextInt(traders.length)], 2000 + random.nextInt(25),
+          random.nextInt(1_000_000)));
+    }
+    return result;
+  }
+
+}
@@ -0,0 +1,160 @@
+package chapter05.code;
+
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * PuttingIntoPractice 질의: 스트림 vs TransactionStore 벤치마크
+ *
+ * 데이터:
+ * - TransactionStore.randomTransactions (거래자 1000명, 도시 50곳, 25개 연도)
+ * - 저장소 구축 비용은 @Setup에 포함 (질의 비용만 비교)
+ *
+ * 질의 6은 큰 도시(City0, 플래너 → 스캔)와 작은 도시(City49, 플래너 → 인덱스)를 따로 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgs = { "-Xms8G", "-Xmx8G" })
+@Measurement(iterations = 2)
+@Warmup(iterations = 3)
+public class TransactionStoreBenchmark {
+
+  @Param({ "10000000" })
+  private int size;
+
+  private List<Transaction> transactions;
+  private TransactionStore store;
+
+  @Setup
+  public void setUp() {
+    transactions = TransactionStore.randomTransactions(size, 42);
+    store = new TransactionStore(transactions);
+  }
+
+  // 질의 1
+  @Benchmark
+  public List<Transaction> query1Stream() {
+    return transactions.stream()
+        .filter(t -> t.getYear() == 2011)
+        .sorted(comparing(Transaction::getValue))
+        .collect(toList());
+  }
+
+  @Benchmark
+  public List<Transaction> query1Store() {
+    return store.transactionsInYearSortedByValue(2011);
+  }
+
+  // 질의 2
+  @Benchmark
+  public List<String> query2Stream() {
+    return transactions.stream().map(t -> t.getTrader().getCity()).distinct().collect(toList());
+  }
+
+  @Benchmark
+  public List<String> query2Store() {
+    return store.cities();
+  }
+
+  // 질의 3
+  @Benchmark
+  public List<Trader> query3Stream() {
+    return transactions.stream()
+        .map(Transaction::getTrader)
+        .filter(trader -> trader.getCity().equals("City0"))
+        .distinct()
+        .sorted(comparing(Trader::getName))
+        .collect(toList());
+  }
+
+  @Benchmark
+  public List<Trader> query3Store() {
+    return store.tradersInCitySortedByName("City0");
+  }
+
+  // 질의 4
+  @Benchmark
+  public String query4Stream() {
+    return transactions.stream().map(t -> t.getTrader().getName()).distinct().sorted().collect(joining(", "));
+  }
+
+  @Benchmark
+  public String query4Store() {
+    return store.traderNamesSorted(", ");
+  }
+
+  // 질의 5
+  @Benchmark
+  public boolean query5Stream() {
+    return transactions.stream().anyMatch(t -> t.getTrader().getCity().equals("City49"));
+  }
+
+  @Benchmark
+  public boolean query5Store() {
+    return store.hasTraderIn("City49");
+  }
+
+  // 질의 6
+  @Benchmark
+  public int query6StreamLargeCity() {
+    return transactions.stream().filter(t -> "City0".equals(t.getTrader().getCity()))
+        .mapToInt(Transaction::getValue).sum();
+  }
+
+  @Benchmark
+  public long query6StoreLargeCity() {
+    return store.sumValuesInCity("City0");
+  }
+
+  @Benchmark
+  public int query6StreamSmallCity() {
+    return transactions.stream().filter(t -> "City49".equals(t.getTrader().getCity()))
+        .mapToInt(Transaction::getValue).sum();
+  }
+
+  @Benchmark
+  public long query6StoreSmallCity() {
+    return store.sumValuesInCity("City49");
+  }
+
+  // 질의 7
+  @Benchmark
+  public int query7Stream() {
+    return transactions.stream().mapToInt(Transaction::getValue).reduce(0, Integer::max);
+  }
+
+  @Benchmark
+  public int query7Store() {
+    return store.maxValue().getAsInt();
+  }
+
+  // 질의 8
+  @Benchmark
+  public Optional<Transaction> query8Stream() {
+    return transactions.stream().min(comparing(Transaction::getValue));
+  }
+
+  @Benchmark
+  public Optional<Transaction> query8Store() {
+    return store.minValueTransaction();
+  }
+
+}
@@ -0,0 +1,373 @@
+package chapter05.code;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 대용량 파일의 고유 단어 수 (병렬, 정확/근사)
+ *
+ * BuildingStreams 11번:
+ *   Files.lines(path).flatMap(line -> Arrays.stream(line.split(" "))).distinct().count()
+ * - 한 스레드가 줄을 읽고 UTF-8을 String으로 디코딩
+ * - 줄마다 split (정규식 경로 + String[] 할당)
+ * - distinct는 HashSet<String> 하나 → 병렬로 바꿔도 순서 유지 비용
+ *
+ * 이 클래스:
+ * 1. 분할: 파일을 CHUNK_SIZE 단위로 나누고 경계를 다음 구분자 바로 뒤로 옮김
+ *    → 단어가 두 조각으로 나뉘지 않음, 조각마다 메모리 매핑 (2GB 넘는 파일도 가능)
+ * 2. 토큰화: 매핑된 바이트를 직접 읽고 ' ', '\n', '\r', '\t'에서 자름 (정규식/디코딩 없음)
+ *    - UTF-8에서 이 바이트들은 다중 바이트 문자 안에 나타나지 않음
+ *    - 바이트 열이 같다 ⇔ 문자열이 같다 → String을 만들지 않고 바이트로 중복 제거
+ * 3. 중복 제거 (조각 스트림의 collect → 작업마다 누적기 하나, 마지막에 병합)
+ *    - 정확: 바이트 키 오픈 어드레싱 집합 (단어 바이트는 하나의 byte[]에 이어 붙임)
+ *    - 근사: HyperLogLog (레지스터 2^14개 = 16KB, 표준 오차 약 0.8%)
+ *      → 단어 수와 무관한 고정 메모리, 병합은 레지스터별 max
+ *
+ * split(" ")과의 차이: 연속된 공백 사이의 빈 문자열은 단어로 세지 않음
+ * 인코딩: UTF-8 (또는 ASCII 호환 단일 바이트 인코딩)
+ */
+public final class UniqueWords {
+
+  /**
+   * 조각 하나의 목표 크기 (실제 조각은 다음 구분자까지 조금 더 큼)
+   */
+  static final int CHUNK_SIZE = 32 * 1024 * 1024;
+
+  /**
+   * HyperLogLog 레지스터 인덱스 비트 수
+   */
+  static final int HLL_PRECISION = 14;
+
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private UniqueWords() {
+  }
+
+  public static void main(String... args) throws IOException {
+    Path file = Files.createTempFile("words", ".txt");
+    try {
+      writeRandomWords(file, 20_000_000, 1_000_000, 42);
+      System.out.printf("파일 크기: %,d bytes%n", Files.size(file));
+
+      long start = System.nanoTime();
+      long expected;
+      try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+        expected = lines.flatMap(line -> Arrays.stream(line.split(" "))).distinct().count();
+      }
+      System.out.printf("Files.lines + split + distinct: %,d (%d ms)%n", expected, (System.nanoTime() - start) / 1_000_000);
+
+      start = System.nanoTime();
+      long exact = countExact(file);
+      System.out.printf("countExact (병렬 정확)         : %,d (%d ms)%n", exact, (System.nanoTime() - start) / 1_000_000);
+
+      start = System.nanoTime();
+      long approximate = countApproximate(file);
+      System.out.printf("countApproximate (HyperLogLog) : %,d (%d ms, 오차 %.2f%%)%n", approximate,
+          (System.nanoTime() - start) / 1_000_000, 100.0 * (approximate - exact) / exact);
+    }
+    finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  /**
+   * 단어 사전 vocabulary개에서 골라 한 줄에 1~20단어씩 쓴 파일
+   */
+  static void writeRandomWords(Path file, int words, int vocabulary, long seed) throws IOException {
+    Random random = new Random(seed);
+    try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      int written = 0;
+      while (written < words) {
+        int lineWords = Math.min(1 + random.nextInt(20), words - written);
+        for (int i = 0; i < lineWords; i++) {
+          if (i > 0) {
+            writer.write(' ');
+          }
+          // 약간 치우친 분포 + 한글 단어 일부
+          int id = (int) (vocabulary * Math.pow(random.nextDouble(), 2));
+          writer.write(id % 7 == 0 ? "단어" + id : "w" + id);
+        }
+        writer.newLine();
+        written += lineWords;
+      }
+    }
+  }
+
+  // ==================================================
+  // 공개 API
+  // ==================================================
+  /**
+   * 정확한 고유 단어 수
+   */
+  public static long countExact(Path file) throws IOException {
+    return count(file, WordSet::new, WordSet::addAll).size();
+  }
+
+  /**
+   * HyperLogLog 근사 고유 단어 수
+   */
+  public static long countApproximate(Path file) throws IOException {
+    return count(file, HyperLogLog::new, HyperLogLog::merge).estimate();
+  }
+
+  private static <A extends WordSink> A count(Path file, Supplier<A> supplier,
+      BiConsumer<A, A> combiner) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      List<MappedByteBuffer> chunks = chunks(channel, CHUNK_SIZE);
+      return chunks.parallelStream()
+          .collect(supplier, (sink, chunk) -> tokenize(chunk, sink), combiner);
+    }
+  }
+
+  // ==================================================
+  // 분할
+  // ==================================================
+  /**
+   * 구분자 경계로 나눈 조각들의 매핑
+   */
+  static List<MappedByteBuffer> chunks(FileChannel channel, int chunkSize) throws IOException {
+    long size = channel.size();
+    List<MappedByteBuffer> result = new ArrayList<>();
+    ByteBuffer probe = ByteBuffer.allocate(64 * 1024);
+    long start = 0;
+    while (start < size) {
+      long end = start + chunkSize >= size ? size : nextBoundary(channel, start + chunkSize, size, probe);
+      if (end - start > Integer.MAX_VALUE) {
+        throw new IOException("No word separator within 2GB after offset " + start);
+      }
+      result.add(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start));
+      start = end;
+    }
+    return result;
+  }
+
+  /**
+   * position 이후 첫 구분자 바로 뒤의 위치 (없으면 파일 끝)
+   */
+  private static long nextBoundary(FileChannel channel, long position, long size, ByteBuffer probe) throws IOException {
+    long pos = position;
+    while (pos < size) {
+      probe.clear();
+      int read = channel.read(probe, pos);
+      if (read <= 0) {
+        break;
+      }
+      for (int i = 0; i < read; i++) {
+        if (isSeparator(probe.get(i))) {
+          return pos + i + 1;
+        }
+      }
+      pos += read;
+      if (pos - position > Integer.MAX_VALUE) {
+        break;
+      }
+    }
+    return Math.min(pos, size);
+  }
+
+  private static boolean isSeparator(byte b) {
+    return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+  }
+
+  // ==================================================
+  // 토큰화
+  // ==================================================
+  /**
+   * 단어를 받는 누적기 (단어 바이트는 호출 동안만 유효)
+   */
+  interface WordSink {
+
+    void add(byte[] word, int length, long hash);
+
+  }
+
+  /**
+   * 조각의 단어마다 FNV-1a 해시를 계산하며 scratch에 복사해 sink로
+   */
+  static void tokenize(ByteBuffer chunk, WordSink sink) {
+    byte[] word = new byte[64];
+    int length = 0;
+    long hash = FNV_OFFSET;
+    int limit = chunk.limit();
+    for (int i = 0; i < limit; i++) {
+      byte b = chunk.get(i);
+      if (isSeparator(b)) {
+        if (length > 0) {
+          sink.add(word, length, mix(hash));
+          length = 0;
+          hash = FNV_OFFSET;
+        }
+        continue;
+      }
+      if (length == word.length) {
+        word = Arrays.copyOf(word, length * 2);
+      }
+      word[length++] = b;
+      hash = (hash ^ (b & 0xFF)) * FNV_PRIME;
+    }
+    if (length > 0) {
+      sink.add(word, length, mix(hash));
+    }
+  }
+
+  /**
+   * FNV-1a는 하위 비트 분산이 약함 → HyperLogLog가 상위 비트를 쓰므로 murmur3 fmix64로 섞음
+   */
+  private static long mix(long h) {
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+
+  // ==================================================
+  // 정확: 바이트 키 집합
+  // ==================================================
+  /**
+   * 단어 바이트 → 존재 여부 (선형 탐사, 적재율 0.5)
+   *
+   * 단어 바이트는 arena에 이어 붙이고 슬롯에는 해시와 (오프셋, 길이)만 저장
+   * → 단어마다 객체 할당 없음
+   * 슬롯 i = table[2i] (해시), table[2i + 1] (오프셋 << 32 | 길이)
+   * → 탐사 한 번에 캐시 라인 하나 (길이 0 = 빈 슬롯)
+   */
+  static final class WordSet implements WordSink {
+
+    private byte[] arena = new byte[1 << 16];
+    private int arenaSize;
+    private long[] table = new long[2 << 10];
+    private int size;
+
+    @Override
+    public void add(byte[] word, int length, long hash) {
+      add(word, 0, length, hash);
+    }
+
+    private void add(byte[] source, int from, int length, long hash) {
+      int mask = (table.length >>> 1) - 1;
+      int slot = (int) hash & mask;
+      long entry;
+      while ((entry = table[2 * slot + 1]) != 0) {
+        if (table[2 * slot] == hash && (int) entry == length) {
+          int offset = (int) (entry >>> 32);
+          if (Arrays.equals(arena, offset, offset + length, source, from, from + length)) {
+            return;
+          }
+        }
+        slot = (slot + 1) & mask;
+      }
+      if (arenaSize + length > arena.length) {
+        arena = Arrays.copyOf(arena, Math.max(arena.length * 2, arenaSize + length));
+      }
+      System.arraycopy(source, from, arena, arenaSize, length);
+      table[2 * slot] = hash;
+      table[2 * slot + 1] = (long) arenaSize << 32 | length;
+      arenaSize += length;
+      if (++size * 4 > table.length) {
+        rehash();
+      }
+    }
+
+    /**
+     * other의 단어를 other의 arena에서 바로 추가
+     */
+    void addAll(WordSet other) {
+      long[] entries = other.table;
+      for (int i = 0; i < entries.length; i += 2) {
+        long entry = entries[i + 1];
+        if (entry != 0) {
+          add(other.arena, (int) (entry >>> 32), (int) entry, entries[i]);
+        }
+      }
+    }
+
+    long size() {
+      return size;
+    }
+
+    private void rehash() {
+      long[] old = table;
+      table = new long[old.length * 2];
+      int mask = (table.length >>> 1) - 1;
+      for (int i = 0; i < old.length; i += 2) {
+        if (old[i + 1] != 0) {
+          int slot = (int) old[i] & mask;
+          while (table[2 * slot + 1] != 0) {
+            slot = (slot + 1) & mask;
+          }
+          table[2 * slot] = old[i];
+          table[2 * slot + 1] = old[i + 1];
+        }
+      }
+    }
+
+  }
+
+  // ==================================================
+  // 근사: HyperLogLog
+  // ==================================================
+  /**
+   * HyperLogLog (Flajolet et al.)
+   *
+   * - 해시 상위 p비트 → 레지스터 번호, 나머지 비트의 선행 0 개수 + 1 → 레지스터 최댓값 갱신
+   * - 추정: α·m² / Σ 2^-M[j], 작은 값은 선형 계수 m·ln(m / 빈 레지스터 수)
+   * - 64비트 해시 → 큰 값 보정 불필요
+   */
+  static final class HyperLogLog implements WordSink {
+
+    private final byte[] registers = new byte[1 << HLL_PRECISION];
+
+    @Override
+    public void add(byte[] word, int length, long hash) {
+      int index = (int) (hash >>> (64 - HLL_PRECISION));
+      long rest = (hash << HLL_PRECISION) | (1L << (HLL_PRECISION - 1));
+      byte rank = (byte) (Long.numberOfLeadingZeros(rest) + 1);
+      if (rank > registers[index]) {
+        registers[index] = rank;
+      }
+    }
+
+    void merge(HyperLogLog other) {
+      for (int i = 0; i < registers.length; i++) {
+        registers[i] = (byte) Math.max(registers[i], other.registers[i]);
+      }
+    }
+
+    long estimate() {
+      int m = registers.length;
+      double sum = 0;
+      int zeros = 0;
+      for (byte register : registers) {
+        sum += 1.0 / (1L << register);
+        if (register == 0) {
+          zeros++;
+        }
+      }
+      double alpha = 0.7213 / (1 + 1.079 / m);
+      double estimate = alpha * m * m / sum;
+      if (estimate <= 2.5 * m && zeros > 0) {
+        estimate = m * Math.log((double) m / zeros);
+      }
+      return Math.round(estimate);
+    }
+
+  }
+
+}
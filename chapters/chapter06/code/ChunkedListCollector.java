@@ -0,0 +1,282 @@
+package chapter06.code;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 대용량/병렬 수집용 청크 리스트 컬렉터
+ *
+ * ToListCollector의 문제:
+ * - supplier: ArrayList::new → 용량 힌트 없음, 10^8개면 수십 번 재할당/복사
+ * - combiner: list1.addAll(list2) → 병렬 트리의 각 단계마다 전체 복사
+ *   깊이 log(P)인 트리에서 요소 하나가 여러 번 복사됨
+ *
+ * 해결:
+ * - 누적 컨테이너 = 청크(배열)들의 연결 리스트
+ *   → 청크가 가득 차면 2배 크기의 새 청크를 뒤에 연결 (기존 요소 복사 없음)
+ * - combiner = 왼쪽 꼬리에 오른쪽 머리를 연결 → O(1)
+ * - finisher = 전체 크기로 미리 만든 ArrayList에 한 번만 복사
+ *   또는 복사 없이 읽기 전용 청크 뷰 반환
+ * - SIZED 스트림이면 예상 크기로 첫 청크를 미리 할당
+ *
+ * 사용:
+ * - stream.collect(new ChunkedListCollector<>())         : 기본
+ * - stream.collect(new ChunkedListCollector<>(n, false)) : 크기 힌트
+ * - ChunkedListCollector.toList(stream)                   : SIZED면 자동 힌트
+ * - ChunkedListCollector.toChunkedView(stream)            : 복사 없는 읽기 전용 뷰
+ */
+public class ChunkedListCollector<T> implements Collector<T, ChunkedListCollector.Chunks<T>, List<T>> {
+
+  /**
+   * 힌트가 없을 때 첫 청크 크기
+   */
+  private static final int MIN_CHUNK = 16;
+
+  /**
+   * 청크 최대 크기 (너무 큰 배열 하나를 피해서 GC 부담 분산)
+   */
+  private static final int MAX_CHUNK = 1 << 20;
+
+  private final int firstChunkSize;
+  private final boolean view;
+
+  public ChunkedListCollector() {
+    this(MIN_CHUNK, false);
+  }
+
+  /**
+   * @param expectedSize 누적 컨테이너 하나에 들어올 것으로 예상되는 요소 수
+   * @param view true면 finisher가 복사 없이 읽기 전용 뷰를 반환
+   */
+  public ChunkedListCollector(int expectedSize, boolean view) {
+    this.firstChunkSize = Math.min(Math.max(expectedSize, MIN_CHUNK), MAX_CHUNK);
+    this.view = view;
+  }
+
+  public static void main(String... args) {
+    System.out.println(toList(Dish.menu.stream()));
+
+    List<Integer> sequential = toList(IntStream.range(0, 1_000_000).boxed());
+    List<Integer> parallel = toList(IntStream.range(0, 1_000_000).boxed().parallel());
+    List<Integer> view = toChunkedView(IntStream.range(0, 1_000_000).boxed().parallel());
+    System.out.println("sequential == parallel: " + sequential.equals(parallel));
+    System.out.println("parallel == view: " + parallel.equals(view));
+  }
+
+  @Override
+  public Supplier<Chunks<T>> supplier() {
+    return () -> new Chunks<>(firstChunkSize);
+  }
+
+  @Override
+  public BiConsumer<Chunks<T>, T> accumulator() {
+    return Chunks::add;
+  }
+
+  @Override
+  public BinaryOperator<Chunks<T>> combiner() {
+    return Chunks::append;
+  }
+
+  @Override
+  public Function<Chunks<T>, List<T>> finisher() {
+    return view ? Chunks::toView : Chunks::toArrayList;
+  }
+
+  @Override
+  public Set<Characteristics> characteristics() {
+    return Collections.emptySet();
+  }
+
+  // ==================================================
+  // SIZED 추정치로 크기 힌트 계산
+  // ==================================================
+  /**
+   * 스트림의 Spliterator가 SIZED면 정확한 크기로 미리 할당
+   *
+   * 병렬 스트림:
+   * - supplier는 리프 작업마다 호출됨
+   * - 리프 개수 ≈ 병렬도 × 4 (스트림 프레임워크의 분할 목표)
+   * - 따라서 리프 하나의 힌트 = 전체 크기 / (병렬도 × 4)
+   */
+  public static <T> List<T> toList(Stream<T> stream) {
+    return collectWithHint(stream, false);
+  }
+
+  public static <T> List<T> toChunkedView(Stream<T> stream) {
+    return collectWithHint(stream, true);
+  }
+
+  private static <T> List<T> collectWithHint(Stream<T> stream, boolean view) {
+    boolean parallel = stream.isParallel();
+    Spliterator<T> spliterator = stream.spliterator();
+    long size = spliterator.getExactSizeIfKnown();
+    int hint = MIN_CHUNK;
+    if (size > 0) {
+      long leaves = parallel ? (long) ForkJoinPool.getCommonPoolParallelism() << 2 : 1;
+      hint = (int) Math.min(size / leaves + 1, MAX_CHUNK);
+    }
+    return StreamSupport.stream(spliterator, parallel)
+        .collect(new ChunkedListCollector<>(hint, view));
+  }
+
+  // ==================================================
+  // 누적 컨테이너: 청크 연결 리스트
+  // ==================================================
+  /**
+   * 청크들의 단일 연결 리스트
+   *
+   * 구조:
+   * head → [a b c d] → [e f g h i j k l] → [m n _ _ ...] ← tail
+   *
+   * 병합:
+   * left.tail.next = right.head → 요소 복사 없음
+   */
+  public static final class Chunks<T> {
+
+    private final Chunk head;
+    private Chunk tail;
+    private long size;
+
+    Chunks(int firstChunkSize) {
+      head = tail = new Chunk(firstChunkSize);
+    }
+
+    void add(T item) {
+      if (tail.count == tail.items.length) {
+        Chunk next = new Chunk(Math.min(tail.items.length << 1, MAX_CHUNK));
+        tail.next = next;
+        tail = next;
+      }
+      tail.items[tail.count++] = item;
+      size++;
+    }
+
+    Chunks<T> append(Chunks<T> other) {
+      if (other.size == 0) {
+        return this;
+      }
+      if (size == 0) {
+        return other;
+      }
+      tail.next = other.head;
+      tail = other.tail;
+      size += other.size;
+      return this;
+    }
+
+    /**
+     * 전체 크기로 한 번만 할당하고 한 번만 복사
+     */
+    @SuppressWarnings("unchecked")
+    List<T> toArrayList() {
+      ArrayList<T> result = new ArrayList<>(checkedSize());
+      for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+        for (int i = 0; i < chunk.count; i++) {
+          result.add((T) chunk.items[i]);
+        }
+      }
+      return result;
+    }
+
+    List<T> toView() {
+      return new ChunkedView<>(this);
+    }
+
+    private int checkedSize() {
+      if (size > Integer.MAX_VALUE) {
+        throw new IllegalStateException("Too many elements for a List: " + size);
+      }
+      return (int) size;
+    }
+
+  }
+
+  private static final class Chunk {
+
+    final Object[] items;
+    int count;
+    Chunk next;
+
+    Chunk(int capacity) {
+      items = new Object[capacity];
+    }
+
+  }
+
+  // ==================================================
+  // 읽기 전용 청크 뷰
+  // ==================================================
+  /**
+   * 청크 배열을 그대로 감싸는 읽기 전용 List
+   *
+   * get(i):
+   * - offsets[k] = k번째 청크의 시작 인덱스
+   * - 이진 탐색으로 청크 찾기 → O(log 청크 수)
+   *
+   * RandomAccess 구현 → 기본 spliterator가 인덱스 기반으로 균등 분할
+   */
+  private static final class ChunkedView<T> extends AbstractList<T> implements RandomAccess {
+
+    private final Object[][] chunks;
+    private final int[] offsets;
+    private final int size;
+
+    ChunkedView(Chunks<T> source) {
+      int chunkCount = 0;
+      for (Chunk chunk = source.head; chunk != null; chunk = chunk.next) {
+        if (chunk.count > 0) {
+          chunkCount++;
+        }
+      }
+      this.chunks = new Object[chunkCount][];
+      this.offsets = new int[chunkCount];
+      this.size = source.checkedSize();
+      int k = 0;
+      int offset = 0;
+      for (Chunk chunk = source.head; chunk != null; chunk = chunk.next) {
+        if (chunk.count > 0) {
+          chunks[k] = chunk.items;
+          offsets[k] = offset;
+          offset += chunk.count;
+          k++;
+        }
+      }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+      if (index < 0 || index >= size) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+      }
+      int k = Arrays.binarySearch(offsets, index);
+      if (k < 0) {
+        k = -k - 2;
+      }
+      return (T) chunks[k][index - offsets[k]];
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+  }
+
+}
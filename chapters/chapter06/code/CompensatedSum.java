@@ -0,0 +1,117 @@
+package chapter06.code;
+
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+
+/**
+ * 보정 합계 (Neumaier 방식의 Kahan 합)
+ *
+ * double을 순서대로 더하면:
+ * - 덧셈마다 큰 쪽의 유효 자릿수에 맞춰 작은 쪽의 하위 비트가 버려짐
+ * - 예: 1e16 + 1.0 = 1e16 (1.0이 사라짐)
+ *
+ * Kahan 합 (Collectors.summingDouble이 사용):
+ * - 버려진 하위 비트를 보정값 c에 모아 두었다가 다음 덧셈에 반영
+ * - 새로 더하는 값이 지금까지의 합보다 크면 보정값 계산이 틀림
+ *   예: [1.0, 1e100, 1.0, -1e100] → 0.0 (정답 2.0)
+ *
+ * Neumaier 합:
+ * - |sum| >= |x| 이면 (sum - t) + x, 아니면 (x - t) + sum 으로 잃은 부분 계산
+ *   (t = sum + x)
+ * - 어느 쪽이 크든 잃은 비트를 정확히 보정값에 모음
+ *
+ * 병합 (병렬 스트림):
+ * - 오른쪽의 sum을 Neumaier 방식으로 더한 뒤 보정값끼리 더함
+ *
+ * 무한대/NaN:
+ * - sum은 보정 없이 더한 값과 같으므로, sum이 유한하지 않으면 sum을 그대로 반환
+ *   (보정값에서 생기는 ∞ - ∞ = NaN이 결과를 덮지 않도록)
+ */
+public class CompensatedSum implements DoubleConsumer {
+
+  private double sum;
+  private double compensation;
+  private long count;
+
+  public static void main(String... args) {
+    double[] values = { 1.0, 1e100, 1.0, -1e100 };
+    System.out.println("단순 반복 합          : " + naiveSum(values));
+    System.out.println("DoubleStream.sum      : " + DoubleStream.of(values).sum());
+    System.out.println("CompensatedSum        : " + DoubleStream.of(values)
+        .collect(CompensatedSum::new, CompensatedSum::accept, CompensatedSum::combine).getSum());
+
+    double[] tenths = new double[10_000_000];
+    Arrays.fill(tenths, 0.1);
+    System.out.println();
+    System.out.println("0.1 × 1천만 (단순)    : " + naiveSum(tenths));
+    System.out.println("0.1 × 1천만 (보정)    : " + DoubleStream.of(tenths).parallel()
+        .collect(CompensatedSum::new, CompensatedSum::accept, CompensatedSum::combine).getSum());
+  }
+
+  private static double naiveSum(double[] values) {
+    double sum = 0;
+    for (double value : values) {
+      sum += value;
+    }
+    return sum;
+  }
+
+  /**
+   * summingDouble(mapper)의 Neumaier 버전
+   */
+  public static <T> Collector<T, ?, Double> summingCompensated(ToDoubleFunction<? super T> mapper) {
+    return Collector.of(
+        CompensatedSum::new,
+        (acc, item) -> acc.accept(mapper.applyAsDouble(item)),
+        CompensatedSum::combine,
+        CompensatedSum::getSum);
+  }
+
+  @Override
+  public void accept(double value) {
+    add(value);
+    count++;
+  }
+
+  /**
+   * other를 이 합계에 병합
+   */
+  public CompensatedSum combine(CompensatedSum other) {
+    add(other.sum);
+    compensation += other.compensation;
+    count += other.count;
+    return this;
+  }
+
+  private void add(double value) {
+    double t = sum + value;
+    if (Math.abs(sum) >= Math.abs(value)) {
+      compensation += (sum - t) + value;
+    }
+    else {
+      compensation += (value - t) + sum;
+    }
+    sum = t;
+  }
+
+  public double getSum() {
+    return Double.isFinite(sum) ? sum + compensation : sum;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public double getAverage() {
+    return count > 0 ? getSum() / count : 0.0;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s{count=%d, sum=%s}", getClass().getSimpleName(), count, getSum());
+  }
+
+}
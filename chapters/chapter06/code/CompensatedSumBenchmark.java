@@ -0,0 +1,78 @@
+package chapter06.code;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.summingDouble;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import chapter06.code.GroupingTransactions.Currency;
+import chapter06.code.GroupingTransactions.Transaction;
+
+/**
+ * 통화별 합계: summingDouble vs Neumaier 보정 합 벤치마크
+ *
+ * 데이터:
+ * - 거래 1천만 건, 통화 5개
+ *
+ * 비교:
+ * - summingDouble: groupingBy + HashMap + Kahan 합 (JDK)
+ * - sumByCurrency(): ordinal 배열 + Neumaier 합 컬렉터
+ * - engine: 고정 블록 트리 (재현 가능한 결과)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Measurement(iterations = 2)
+@Warmup(iterations = 3)
+public class CompensatedSumBenchmark {
+
+  private static final int N = 10_000_000;
+
+  private List<Transaction> transactions;
+
+  @Setup
+  public void setUp() {
+    transactions = CurrencySums.illConditionedTransactions(N, 42);
+  }
+
+  @Benchmark
+  public Map<Currency, Double> groupingBySummingDouble() {
+    return transactions.stream().collect(groupingBy(Transaction::getCurrency, summingDouble(Transaction::getValue)));
+  }
+
+  @Benchmark
+  public Map<Currency, Double> compensatedCollector() {
+    return transactions.stream().collect(CurrencySums.sumByCurrency());
+  }
+
+  @Benchmark
+  public Map<Currency, Double> parallelGroupingBySummingDouble() {
+    return transactions.parallelStream()
+        .collect(groupingBy(Transaction::getCurrency, summingDouble(Transaction::getValue)));
+  }
+
+  @Benchmark
+  public Map<Currency, Double> parallelCompensatedCollector() {
+    return transactions.parallelStream().collect(CurrencySums.sumByCurrency());
+  }
+
+  @Benchmark
+  public Map<Currency, Double> reproducibleEngine() {
+    return CurrencySums.sumByCurrency(transactions);
+  }
+
+}
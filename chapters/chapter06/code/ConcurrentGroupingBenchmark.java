@@ -0,0 +1,101 @@
+package chapter06.code;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.groupingByConcurrent;
+import static java.util.stream.Collectors.summingDouble;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import chapter06.code.GroupingTransactions.Transaction;
+
+/**
+ * 병렬 그룹화 벤치마크
+ *
+ * 변수:
+ * - keys    : 서로 다른 그룹 키 개수 (5 = 통화 수준, 1000, 100만)
+ * - threads : ForkJoinPool 병렬도
+ *
+ * 비교 대상:
+ * - groupingBy (병렬 스트림)
+ * - groupingByConcurrent (병렬 스트림)
+ * - ParallelGroupingEngine.groupMerging (병합 트리)
+ * - ParallelGroupingEngine.groupStriped (스트라이프 빈)
+ *
+ * 병렬 스트림은 customPool.submit(() -> ...) 안에서 실행해
+ * 같은 스레드 수로 비교 (CustomThreadPool 참고)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = { "-Xms8G", "-Xmx8G" })
+@Measurement(iterations = 2)
+@Warmup(iterations = 3)
+public class ConcurrentGroupingBenchmark {
+
+  private static final int N = 10_000_000;
+
+  @Param({ "5", "1000", "1000000" })
+  private int keys;
+
+  @Param({ "1", "4", "8" })
+  private int threads;
+
+  private List<Transaction> transactions;
+  private ForkJoinPool pool;
+  private Function<Transaction, Integer> classifier;
+  private ParallelGroupingEngine<Transaction, Integer, ?, Double> engine;
+
+  @Setup
+  public void setUp() {
+    transactions = ParallelGroupingEngine.randomTransactions(N, 42);
+    pool = new ForkJoinPool(threads);
+    int distinctKeys = keys;
+    classifier = t -> (int) t.getValue() % distinctKeys;
+    engine = new ParallelGroupingEngine<>(classifier, summingDouble(Transaction::getValue));
+  }
+
+  @TearDown
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Benchmark
+  public Map<Integer, Double> groupingByParallel() {
+    return pool.submit(() -> transactions.parallelStream()
+        .collect(groupingBy(classifier, summingDouble(Transaction::getValue)))).join();
+  }
+
+  @Benchmark
+  public Map<Integer, Double> groupingByConcurrentParallel() {
+    return pool.submit(() -> transactions.parallelStream()
+        .collect(groupingByConcurrent(classifier, summingDouble(Transaction::getValue)))).join();
+  }
+
+  @Benchmark
+  public Map<Integer, Double> engineMergeTree() {
+    return engine.groupMerging(transactions, pool);
+  }
+
+  @Benchmark
+  public Map<Integer, Double> engineStriped() {
+    return engine.groupStriped(transactions, pool);
+  }
+
+}
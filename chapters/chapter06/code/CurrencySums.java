@@ -0,0 +1,231 @@
+package chapter06.code;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.summingDouble;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collector;
+
+import chapter06.code.GroupingTransactions.Currency;
+import chapter06.code.GroupingTransactions.Transaction;
+
+/**
+ * 통화별 거래 금액 보정 합계 (병렬, 재현 가능)
+ *
+ * groupingBy(Transaction::getCurrency, summingDouble(Transaction::getValue))의 문제:
+ * - summingDouble은 Kahan 합 → 큰 값 뒤에 작은 값이 올 때만 정확
+ *   (CompensatedSum 참고)
+ * - 병렬 스트림에서는 분할 크기가 병렬도(코어 수)에 따라 달라짐
+ *   → 같은 데이터라도 실행 환경마다 마지막 비트가 다른 합계
+ *
+ * 이 클래스:
+ * - 통화 ordinal로 인덱싱한 배열에 Neumaier 보정 합을 누적
+ *   → 요소마다 HashMap 조회/Double 박싱 없음
+ *
+ * 1. sumByCurrency() 컬렉터
+ *    - 병렬 스트림에서도 사용 가능 (병합 가능한 누적기)
+ *    - 결과는 스트림의 분할 방식에 따라 마지막 비트가 달라질 수 있음
+ *
+ * 2. sumByCurrency(list, pool) 엔진
+ *    - 리스트를 BLOCK 크기의 고정 블록으로 나누고,
+ *      블록 경계에서만 분할하는 고정 이진 트리로 병합
+ *    - 트리 모양이 데이터 크기로만 결정 → 스레드 수, 작업이 끝나는 순서와 무관하게
+ *      항상 비트 단위로 같은 결과
+ */
+public final class CurrencySums {
+
+  /**
+   * 리프 블록 크기 (트리 모양을 결정하므로 바꾸면 결과의 마지막 비트가 바뀔 수 있음)
+   */
+  public static final int BLOCK = 16_384;
+
+  private static final Currency[] CURRENCIES = Currency.values();
+
+  private CurrencySums() {
+  }
+
+  public static void main(String... args) {
+    System.out.println("summingDouble : " + GroupingTransactions.transactions.stream()
+        .collect(groupingBy(Transaction::getCurrency, summingDouble(Transaction::getValue))));
+    System.out.println("sumByCurrency : " + GroupingTransactions.transactions.stream().collect(sumByCurrency()));
+    System.out.println();
+
+    List<Transaction> data = illConditionedTransactions(2_000_000, 42);
+    Map<Currency, BigDecimal> exact = exactSums(data);
+    System.out.println("정확한 값 (BigDecimal) EUR : " + exact.get(Currency.EUR).doubleValue());
+    System.out.println("단순 반복 합           EUR : " + naiveSum(data, Currency.EUR));
+    System.out.println("summingDouble (병렬)   EUR : " + data.parallelStream()
+        .collect(groupingBy(Transaction::getCurrency, summingDouble(Transaction::getValue))).get(Currency.EUR));
+    System.out.println("sumByCurrency (병렬)   EUR : " + data.parallelStream()
+        .collect(sumByCurrency()).get(Currency.EUR));
+
+    for (int threads : new int[] { 1, 2, 3, 8 }) {
+      ForkJoinPool pool = new ForkJoinPool(threads);
+      try {
+        System.out.printf("엔진, 스레드 %d개       EUR : %s%n", threads,
+            sumByCurrency(data, pool).get(Currency.EUR));
+      }
+      finally {
+        pool.shutdown();
+      }
+    }
+  }
+
+  /**
+   * 큰 양수/음수와 작은 값이 섞여 상쇄되는 거래 (보정 없이는 작은 값이 사라짐)
+   */
+  static List<Transaction> illConditionedTransactions(int n, long seed) {
+    Random random = new Random(seed);
+    List<Transaction> result = new ArrayList<>(n);
+    for (int i = 0; i < n; i += 2) {
+      Currency currency = CURRENCIES[random.nextInt(CURRENCIES.length)];
+      double big = 1e9 * (1 + random.nextInt(1000));
+      result.add(new Transaction(currency, big + random.nextInt(100) * 0.01));
+      result.add(new Transaction(currency, -big));
+    }
+    Collections.shuffle(result, random);
+    return result;
+  }
+
+  private static double naiveSum(List<Transaction> data, Currency currency) {
+    double sum = 0;
+    for (Transaction t : data) {
+      if (t.getCurrency() == currency) {
+        sum += t.getValue();
+      }
+    }
+    return sum;
+  }
+
+  private static Map<Currency, BigDecimal> exactSums(List<Transaction> data) {
+    Map<Currency, BigDecimal> result = new EnumMap<>(Currency.class);
+    for (Transaction t : data) {
+      result.merge(t.getCurrency(), new BigDecimal(t.getValue()), BigDecimal::add);
+    }
+    return result;
+  }
+
+  // ==================================================
+  // 1. 컬렉터
+  // ==================================================
+  /**
+   * groupingBy(Transaction::getCurrency, summingDouble(Transaction::getValue))의 보정 합 버전
+   *
+   * 결과는 EnumMap, 거래가 없는 통화는 groupingBy처럼 제외
+   */
+  public static Collector<Transaction, ?, Map<Currency, Double>> sumByCurrency() {
+    return Collector.of(
+        Sums::new,
+        Sums::accept,
+        Sums::combine,
+        Sums::toMap);
+  }
+
+  // ==================================================
+  // 2. 재현 가능한 병렬 엔진
+  // ==================================================
+  public static Map<Currency, Double> sumByCurrency(List<Transaction> data) {
+    return sumByCurrency(data, ForkJoinPool.commonPool());
+  }
+
+  public static Map<Currency, Double> sumByCurrency(List<Transaction> data, ForkJoinPool pool) {
+    return pool.invoke(new SumTask(data, 0, data.size())).toMap();
+  }
+
+  private static final class SumTask extends RecursiveTask<Sums> {
+
+    private final List<Transaction> data;
+    private final int start;
+    private final int end;
+
+    SumTask(List<Transaction> data, int start, int end) {
+      this.data = data;
+      this.start = start;
+      this.end = end;
+    }
+
+    /**
+     * 분할 지점은 블록 개수의 절반 → 스레드 수와 무관한 고정 트리
+     * 병합은 항상 왼쪽.combine(오른쪽)
+     */
+    @Override
+    protected Sums compute() {
+      int blocks = (end - start + BLOCK - 1) / BLOCK;
+      if (blocks <= 1) {
+        Sums sums = new Sums();
+        for (int i = start; i < end; i++) {
+          sums.accept(data.get(i));
+        }
+        return sums;
+      }
+      int mid = start + (blocks / 2) * BLOCK;
+      SumTask leftTask = new SumTask(data, start, mid);
+      leftTask.fork();
+      Sums right = new SumTask(data, mid, end).compute();
+      return leftTask.join().combine(right);
+    }
+
+  }
+
+  // ==================================================
+  // 통화별 누적기
+  // ==================================================
+  /**
+   * 통화 ordinal별 Neumaier 합 (CompensatedSum과 같은 계산을 배열로)
+   */
+  private static final class Sums {
+
+    private final double[] sums = new double[CURRENCIES.length];
+    private final double[] compensations = new double[CURRENCIES.length];
+    private final long[] counts = new long[CURRENCIES.length];
+
+    void accept(Transaction transaction) {
+      int i = transaction.getCurrency().ordinal();
+      add(i, transaction.getValue());
+      counts[i]++;
+    }
+
+    Sums combine(Sums other) {
+      for (int i = 0; i < sums.length; i++) {
+        if (other.counts[i] > 0) {
+          add(i, other.sums[i]);
+          compensations[i] += other.compensations[i];
+          counts[i] += other.counts[i];
+        }
+      }
+      return this;
+    }
+
+    private void add(int i, double value) {
+      double sum = sums[i];
+      double t = sum + value;
+      if (Math.abs(sum) >= Math.abs(value)) {
+        compensations[i] += (sum - t) + value;
+      }
+      else {
+        compensations[i] += (value - t) + sum;
+      }
+      sums[i] = t;
+    }
+
+    Map<Currency, Double> toMap() {
+      Map<Currency, Double> result = new EnumMap<>(Currency.class);
+      for (int i = 0; i < sums.length; i++) {
+        if (counts[i] > 0) {
+          result.put(CURRENCIES[i], Double.isFinite(sums[i]) ? sums[i] + compensations[i] : sums[i]);
+        }
+      }
+      return result;
+    }
+
+  }
+
+}
@@ -0,0 +1,200 @@
+package chapter06.code;
+
+import static chapter06.code.Dish.menu;
+import static java.util.stream.Collectors.summingInt;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.function.IntPredicate;
+
+import chapter05.code.StringDictionary;
+
+/**
+ * 요리 데이터의 컬럼 저장소 (struct-of-arrays)
+ *
+ * 컬럼:
+ * - calories[]   : int
+ * - vegetarian[] : boolean
+ * - type[]       : Dish.Type의 ordinal (byte)
+ * - name[]       : 이름 사전 코드 (StringDictionary)
+ *
+ * menu.stream().collect(summingInt(Dish::getCalories))와 비교:
+ * - 스트림: 요소마다 Dish 참조 → getter 호출 → 파이프라인 단계 통과
+ * - 컬럼: calories 배열 하나를 처음부터 끝까지 더하는 루프
+ *
+ * 그룹화:
+ * - type 컬럼이 ordinal이므로 결과를 long[Type 개수]에 바로 누적
+ * - 마지막에 EnumMap으로 변환 (요소 수와 무관한 상수 비용)
+ *
+ * TransactionColumns(chapter05)와 같은 연산자 구성: 필터, 합계, 그룹, 최소/최대
+ */
+public class DishColumns {
+
+  private static final Dish.Type[] TYPES = Dish.Type.values();
+
+  private final int size;
+  private final int[] calories;
+  private final boolean[] vegetarian;
+  private final byte[] type;
+  private final int[] name;
+  private final StringDictionary names = new StringDictionary();
+
+  public DishColumns(List<Dish> dishes) {
+    this.size = dishes.size();
+    this.calories = new int[size];
+    this.vegetarian = new boolean[size];
+    this.type = new byte[size];
+    this.name = new int[size];
+    for (int i = 0; i < size; i++) {
+      Dish dish = dishes.get(i);
+      calories[i] = dish.getCalories();
+      vegetarian[i] = dish.isVegetarian();
+      type[i] = (byte) dish.getType().ordinal();
+      name[i] = names.encode(dish.getName());
+    }
+  }
+
+  public static void main(String... args) {
+    DishColumns columns = new DishColumns(menu);
+
+    System.out.println("총 칼로리 (stream)  : " + menu.stream().collect(summingInt(Dish::getCalories)));
+    System.out.println("총 칼로리 (columns) : " + columns.totalCalories());
+    System.out.println("최대/최소 칼로리    : " + columns.maxCalories().getAsInt()
+        + " / " + columns.minCalories().getAsInt());
+    System.out.println("평균 칼로리         : " + columns.averageCalories());
+    System.out.println("300 kcal 초과 요리  : " + columns.namesOf(columns.rowsWhereCalories(c -> c > 300)));
+    System.out.println("채식 요리           : " + columns.namesOf(columns.vegetarianRows()));
+    System.out.println("타입별 개수         : " + columns.countByType());
+    System.out.println("타입별 총 칼로리    : " + columns.sumCaloriesByType());
+  }
+
+  public int size() {
+    return size;
+  }
+
+  // ==================================================
+  // 필터
+  // ==================================================
+  public int[] rowsWhereCalories(IntPredicate predicate) {
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      if (predicate.test(calories[i])) {
+        count++;
+      }
+    }
+    int[] rows = new int[count];
+    int k = 0;
+    for (int i = 0; i < size; i++) {
+      if (predicate.test(calories[i])) {
+        rows[k++] = i;
+      }
+    }
+    return rows;
+  }
+
+  public int[] vegetarianRows() {
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      if (vegetarian[i]) {
+        count++;
+      }
+    }
+    int[] rows = new int[count];
+    int k = 0;
+    for (int i = 0; i < size; i++) {
+      if (vegetarian[i]) {
+        rows[k++] = i;
+      }
+    }
+    return rows;
+  }
+
+  public List<String> namesOf(int[] rows) {
+    List<String> result = new ArrayList<>(rows.length);
+    for (int row : rows) {
+      result.add(names.decode(name[row]));
+    }
+    return result;
+  }
+
+  // ==================================================
+  // 합계 / 평균
+  // ==================================================
+  /**
+   * Summarizing.calculateTotalCalories의 컬럼 버전
+   */
+  public long totalCalories() {
+    long sum = 0;
+    for (int i = 0; i < size; i++) {
+      sum += calories[i];
+    }
+    return sum;
+  }
+
+  public double averageCalories() {
+    return size == 0 ? 0.0 : (double) totalCalories() / size;
+  }
+
+  // ==================================================
+  // 그룹
+  // ==================================================
+  public Map<Dish.Type, Long> countByType() {
+    long[] counts = new long[TYPES.length];
+    for (int i = 0; i < size; i++) {
+      counts[type[i]]++;
+    }
+    return toEnumMap(counts, counts);
+  }
+
+  public Map<Dish.Type, Long> sumCaloriesByType() {
+    long[] counts = new long[TYPES.length];
+    long[] sums = new long[TYPES.length];
+    for (int i = 0; i < size; i++) {
+      counts[type[i]]++;
+      sums[type[i]] += calories[i];
+    }
+    return toEnumMap(sums, counts);
+  }
+
+  /**
+   * groupingBy와 같게 등장하지 않은 타입(counts == 0)은 결과에서 제외
+   */
+  private static Map<Dish.Type, Long> toEnumMap(long[] perOrdinal, long[] counts) {
+    Map<Dish.Type, Long> result = new EnumMap<>(Dish.Type.class);
+    for (int ordinal = 0; ordinal < TYPES.length; ordinal++) {
+      if (counts[ordinal] != 0) {
+        result.put(TYPES[ordinal], perOrdinal[ordinal]);
+      }
+    }
+    return result;
+  }
+
+  // ==================================================
+  // 최소 / 최대
+  // ==================================================
+  public OptionalInt maxCalories() {
+    if (size == 0) {
+      return OptionalInt.empty();
+    }
+    int max = calories[0];
+    for (int i = 1; i < size; i++) {
+      max = Math.max(max, calories[i]);
+    }
+    return OptionalInt.of(max);
+  }
+
+  public OptionalInt minCalories() {
+    if (size == 0) {
+      return OptionalInt.empty();
+    }
+    int min = calories[0];
+    for (int i = 1; i < size; i++) {
+      min = Math.min(min, calories[i]);
+    }
+    return OptionalInt.of(min);
+  }
+
+}
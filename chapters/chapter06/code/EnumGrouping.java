@@ -0,0 +1,243 @@
+package chapter06.code;
+
+import static chapter06.code.Dish.menu;
+import static java.util.Comparator.comparingInt;
+import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.maxBy;
+import static java.util.stream.Collectors.partitioningBy;
+import static java.util.stream.Collectors.toList;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+import chapter06.code.Grouping.CaloricLevel;
+import chapter06.code.GroupingTransactions.Currency;
+import chapter06.code.GroupingTransactions.Transaction;
+
+/**
+ * enum 키 전용 그룹화 컬렉터
+ *
+ * groupingBy(Dish::getType)의 내부 동작:
+ * - HashMap에 키마다 hashCode() + equals() 호출
+ * - computeIfAbsent 람다 + HashMap.Node 할당
+ * - 결과도 HashMap (키 순서 = 해시 순서)
+ *
+ * enum 키의 특징:
+ * - 가능한 키가 미리 정해져 있음 (values().length)
+ * - ordinal()이 0부터 연속된 정수
+ * → 해시 테이블 대신 ordinal로 인덱싱하는 배열 하나면 충분
+ *
+ * 제공 컬렉터:
+ * - groupingByEnum(type, classifier)                  : Map<K, List<T>>
+ * - groupingByEnum(type, classifier, downstream)      : Map<K, D> (다운스트림 중첩)
+ * - groupingByEnumConcurrent(type, classifier, downstream)
+ *   : CONCURRENT 컬렉터, 병렬 스트림이 하나의 배열을 공유
+ *
+ * 결과는 EnumMap (역시 ordinal 배열 기반, 키는 선언 순서)
+ */
+public class EnumGrouping {
+
+  private EnumGrouping() {
+  }
+
+  public static void main(String... args) {
+    System.out.println("=== enum 키 그룹화 ===\n");
+
+    System.out.println("1. 타입별 그룹화 (Grouping.groupDishesByType):");
+    System.out.println(menu.stream().collect(groupingByEnum(Dish.Type.class, Dish::getType)));
+    System.out.println();
+
+    System.out.println("2. 칼로리 레벨별 그룹화 (Grouping.groupDishesByCaloricLevel):");
+    System.out.println(menu.stream().collect(groupingByEnum(CaloricLevel.class, dish -> {
+      if (dish.getCalories() <= 400) {
+        return CaloricLevel.DIET;
+      }
+      else if (dish.getCalories() <= 700) {
+        return CaloricLevel.NORMAL;
+      }
+      else {
+        return CaloricLevel.FAT;
+      }
+    })));
+    System.out.println();
+
+    System.out.println("3. 채식 분할 → 타입별 그룹화 (Partitioning.vegetarianDishesByType):");
+    System.out.println(menu.stream().collect(
+        partitioningBy(Dish::isVegetarian, groupingByEnum(Dish.Type.class, Dish::getType))));
+    System.out.println();
+
+    System.out.println("4. 통화별 그룹화 (GroupingTransactions.groupFunctionally):");
+    System.out.println(GroupingTransactions.transactions.stream()
+        .collect(groupingByEnum(Currency.class, Transaction::getCurrency)));
+    System.out.println();
+
+    System.out.println("5. 타입별 개수 / 최대 칼로리 (다운스트림):");
+    System.out.println(menu.stream().collect(groupingByEnum(Dish.Type.class, Dish::getType, counting())));
+    System.out.println(menu.stream().collect(groupingByEnum(Dish.Type.class, Dish::getType,
+        collectingAndThen(maxBy(comparingInt(Dish::getCalories)), Optional::get))));
+    System.out.println();
+
+    System.out.println("6. 통화별 개수 (병렬, concurrent):");
+    System.out.println(GroupingTransactions.transactions.parallelStream()
+        .collect(groupingByEnumConcurrent(Currency.class, Transaction::getCurrency, counting())));
+  }
+
+  // ==================================================
+  // 1. 기본 enum 그룹화
+  // ==================================================
+  /**
+   * groupingBy(classifier)의 enum 버전
+   *
+   * groupingByEnum(type, classifier, toList())와 동일
+   */
+  public static <T, K extends Enum<K>> Collector<T, ?, Map<K, List<T>>> groupingByEnum(
+      Class<K> type, Function<? super T, K> classifier) {
+    return groupingByEnum(type, classifier, toList());
+  }
+
+  // ==================================================
+  // 2. 다운스트림 컬렉터와 조합
+  // ==================================================
+  /**
+   * groupingBy(classifier, downstream)의 enum 버전
+   *
+   * 누적 컨테이너:
+   * - Object[] slots (길이 = enum 상수 개수)
+   * - slots[ordinal] = 해당 키의 다운스트림 컨테이너 (처음 등장할 때 생성)
+   *
+   * 동작:
+   * 1. accumulator: classifier → ordinal → slots[ordinal]에 다운스트림 누적
+   * 2. combiner: 같은 ordinal끼리 다운스트림 combiner 적용
+   * 3. finisher: 비어 있지 않은 슬롯만 EnumMap에 담고 다운스트림 finisher 적용
+   *
+   * groupingBy와 같은 의미:
+   * - 등장하지 않은 키는 결과에 없음
+   */
+  public static <T, K extends Enum<K>, A, D> Collector<T, ?, Map<K, D>> groupingByEnum(
+      Class<K> type, Function<? super T, K> classifier, Collector<? super T, A, D> downstream) {
+    K[] keys = type.getEnumConstants();
+    Supplier<A> downstreamSupplier = downstream.supplier();
+    BiConsumer<A, ? super T> downstreamAccumulator = downstream.accumulator();
+    BinaryOperator<A> downstreamCombiner = downstream.combiner();
+    Function<A, D> downstreamFinisher = downstream.finisher();
+
+    Supplier<Object[]> supplier = () -> new Object[keys.length];
+
+    BiConsumer<Object[], T> accumulator = (slots, item) -> {
+      int ordinal = classifier.apply(item).ordinal();
+      @SuppressWarnings("unchecked")
+      A container = (A) slots[ordinal];
+      if (container == null) {
+        container = downstreamSupplier.get();
+        slots[ordinal] = container;
+      }
+      downstreamAccumulator.accept(container, item);
+    };
+
+    BinaryOperator<Object[]> combiner = (left, right) -> {
+      for (int i = 0; i < left.length; i++) {
+        if (right[i] == null) {
+          continue;
+        }
+        if (left[i] == null) {
+          left[i] = right[i];
+        }
+        else {
+          @SuppressWarnings("unchecked")
+          A merged = downstreamCombiner.apply((A) left[i], (A) right[i]);
+          left[i] = merged;
+        }
+      }
+      return left;
+    };
+
+    Function<Object[], Map<K, D>> finisher = slots -> {
+      Map<K, D> result = new EnumMap<>(type);
+      for (int i = 0; i < slots.length; i++) {
+        if (slots[i] != null) {
+          @SuppressWarnings("unchecked")
+          A container = (A) slots[i];
+          result.put(keys[i], downstreamFinisher.apply(container));
+        }
+      }
+      return result;
+    };
+
+    return Collector.of(supplier, accumulator, combiner, finisher);
+  }
+
+  // ==================================================
+  // 3. 동시성 버전
+  // ==================================================
+  /**
+   * groupingByConcurrent(classifier, downstream)의 enum 버전
+   *
+   * CONCURRENT + UNORDERED:
+   * - 병렬 스트림이 컨테이너 하나를 공유 → combiner 호출 없음
+   * - 슬롯 생성: AtomicReferenceArray.compareAndSet (락 없음)
+   * - 슬롯 누적: 슬롯의 다운스트림 컨테이너에 synchronized
+   *   → 키가 다르면 서로 막지 않음 (키 단위 스트라이핑)
+   *
+   * 주의:
+   * - 키 개수가 적을수록 같은 슬롯 경쟁이 늘어남
+   * - 다운스트림이 무거우면 groupingByEnum(병렬, 스레드별 배열)이 더 빠를 수 있음
+   */
+  public static <T, K extends Enum<K>, A, D> Collector<T, ?, Map<K, D>> groupingByEnumConcurrent(
+      Class<K> type, Function<? super T, K> classifier, Collector<? super T, A, D> downstream) {
+    K[] keys = type.getEnumConstants();
+    Supplier<A> downstreamSupplier = downstream.supplier();
+    BiConsumer<A, ? super T> downstreamAccumulator = downstream.accumulator();
+    BinaryOperator<A> downstreamCombiner = downstream.combiner();
+    Function<A, D> downstreamFinisher = downstream.finisher();
+
+    Supplier<AtomicReferenceArray<A>> supplier = () -> new AtomicReferenceArray<>(keys.length);
+
+    BiConsumer<AtomicReferenceArray<A>, T> accumulator = (slots, item) -> {
+      int ordinal = classifier.apply(item).ordinal();
+      A container = slots.get(ordinal);
+      if (container == null) {
+        slots.compareAndSet(ordinal, null, downstreamSupplier.get());
+        container = slots.get(ordinal);
+      }
+      synchronized (container) {
+        downstreamAccumulator.accept(container, item);
+      }
+    };
+
+    // 병렬 스트림에서는 호출되지 않지만 Collector 계약상 올바르게 병합
+    BinaryOperator<AtomicReferenceArray<A>> combiner = (left, right) -> {
+      for (int i = 0; i < left.length(); i++) {
+        A container = right.get(i);
+        if (container == null) {
+          continue;
+        }
+        left.set(i, left.get(i) == null ? container : downstreamCombiner.apply(left.get(i), container));
+      }
+      return left;
+    };
+
+    Function<AtomicReferenceArray<A>, Map<K, D>> finisher = slots -> {
+      Map<K, D> result = new EnumMap<>(type);
+      for (int i = 0; i < slots.length(); i++) {
+        A container = slots.get(i);
+        if (container != null) {
+          result.put(keys[i], downstreamFinisher.apply(container));
+        }
+      }
+      return result;
+    };
+
+    return Collector.of(supplier, accumulator, combiner, finisher,
+        Collector.Characteristics.CONCURRENT, Collector.Characteristics.UNORDERED);
+  }
+
+}
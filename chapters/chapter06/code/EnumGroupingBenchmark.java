@@ -0,0 +1,83 @@
+package chapter06.code;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.groupingByConcurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * HashMap 그룹화 vs enum 배열 그룹화 벤치마크
+ *
+ * 데이터:
+ * - 메뉴를 무작위로 복제한 요리 1천만 개
+ * - 키는 Dish.Type 3개 → 버킷은 적고 행은 많은 전형적인 경우
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Measurement(iterations = 2)
+@Warmup(iterations = 3)
+public class EnumGroupingBenchmark {
+
+  private static final int N = 10_000_000;
+
+  private List<Dish> dishes;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    dishes = new ArrayList<>(N);
+    for (int i = 0; i < N; i++) {
+      dishes.add(Dish.menu.get(random.nextInt(Dish.menu.size())));
+    }
+  }
+
+  @Benchmark
+  public Map<Dish.Type, Long> hashGrouping() {
+    return dishes.stream().collect(groupingBy(Dish::getType, counting()));
+  }
+
+  @Benchmark
+  public Map<Dish.Type, Long> enumGrouping() {
+    return dishes.stream().collect(EnumGrouping.groupingByEnum(Dish.Type.class, Dish::getType, counting()));
+  }
+
+  @Benchmark
+  public Map<Dish.Type, Long> parallelHashGrouping() {
+    return dishes.parallelStream().collect(groupingBy(Dish::getType, counting()));
+  }
+
+  @Benchmark
+  public Map<Dish.Type, Long> parallelEnumGrouping() {
+    return dishes.parallelStream().collect(EnumGrouping.groupingByEnum(Dish.Type.class, Dish::getType, counting()));
+  }
+
+  @Benchmark
+  public Map<Dish.Type, Long> concurrentHashGrouping() {
+    return dishes.parallelStream().collect(groupingByConcurrent(Dish::getType, counting()));
+  }
+
+  @Benchmark
+  public Map<Dish.Type, Long> concurrentEnumGrouping() {
+    return dishes.parallelStream()
+        .collect(EnumGrouping.groupingByEnumConcurrent(Dish.Type.class, Dish::getType, counting()));
+  }
+
+}
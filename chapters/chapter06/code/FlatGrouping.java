@@ -0,0 +1,581 @@
+package chapter06.code;
+
+import static chapter06.code.Dish.menu;
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * 합성 키(composite key) 하나로 하는 다수준 그룹화
+ *
+ * groupingBy(c1, groupingBy(c2, downstream))의 구조:
+ * - 바깥 HashMap → 그룹마다 안쪽 HashMap → 그룹마다 다운스트림 컨테이너
+ * - 요소마다 수준 수만큼 해시 조회, 수준이 깊어질수록 맵 객체가 곱으로 늘어남
+ *
+ * FlatGrouping의 구조:
+ * - 각 수준의 키를 작은 정수 코드로 바꾸고 (enum → ordinal, 범위 → key - min)
+ *   비트를 이어 붙여 long 하나로 압축
+ *     packed = code1 << (bits2 + bits3) | code2 << bits3 | code3   (첫 수준이 가장 높은 비트)
+ *   → 압축 키의 정렬 순서 = 수준별 코드의 사전식 순서
+ * - long 키의 오픈 어드레싱 테이블 하나에 다운스트림 컨테이너를 저장
+ *   → 요소마다 해시 조회 1번, 수준 수와 무관
+ * - 중첩 Map은 결과에서 toNestedMap(수준...)을 호출할 때만 생성
+ *
+ * 제약:
+ * - 모든 수준의 비트 합이 63 이하 (압축 키가 음수가 되지 않도록)
+ * - 수준의 코드 범위는 미리 알아야 함 (enum, 연도 범위, 사전 코드 등)
+ *
+ * 사용 예:
+ * menu.stream().collect(FlatGrouping.groupingBy(toList(),
+ *     Level.ofEnum(Dish.Type.class, Dish::getType),
+ *     Level.ofEnum(CaloricLevel.class, FlatGrouping::caloricLevel)))
+ */
+public final class FlatGrouping {
+
+  private static final long EMPTY = -1L;
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private FlatGrouping() {
+  }
+
+  public static void main(String... args) {
+    Level<Dish, Dish.Type> byType = Level.ofEnum(Dish.Type.class, Dish::getType);
+    Level<Dish, Grouping.CaloricLevel> byCaloricLevel =
+        Level.ofEnum(Grouping.CaloricLevel.class, FlatGrouping::caloricLevel);
+    Level<Dish, Integer> byVegetarian = Level.ofRange(d -> d.isVegetarian() ? 1 : 0, 0, 1);
+
+    System.out.println("groupingBy(type, groupingBy(level)) : "
+        + menu.stream().collect(Collectors.groupingBy(Dish::getType,
+            Collectors.groupingBy(FlatGrouping::caloricLevel))));
+
+    Result<List<Dish>> dishes = menu.stream().collect(groupingBy(toList(), byType, byCaloricLevel));
+    Map<Dish.Type, Map<Grouping.CaloricLevel, List<Dish>>> nested = dishes.toNestedMap(byType, byCaloricLevel);
+    System.out.println("FlatGrouping → toNestedMap()        : " + nested);
+    System.out.println("get(MEAT, FAT)                      : " + dishes.get(Dish.Type.MEAT, Grouping.CaloricLevel.FAT));
+    System.out.println();
+
+    Result<Long> counts = menu.parallelStream()
+        .collect(counting(byType, byCaloricLevel, byVegetarian));
+    System.out.println("3단계 개수 (병렬, 평면)             : " + counts);
+    System.out.println("3단계 개수 (중첩 뷰)                : " + counts.toNestedMap());
+    System.out.println("3단계 개수 (groupingBy)             : " + menu.stream()
+        .collect(Collectors.groupingBy(Dish::getType, Collectors.groupingBy(FlatGrouping::caloricLevel,
+            Collectors.groupingBy(d -> d.isVegetarian() ? 1 : 0, Collectors.counting())))));
+  }
+
+  static Grouping.CaloricLevel caloricLevel(Dish dish) {
+    if (dish.getCalories() <= 400) {
+      return Grouping.CaloricLevel.DIET;
+    }
+    else if (dish.getCalories() <= 700) {
+      return Grouping.CaloricLevel.NORMAL;
+    }
+    else {
+      return Grouping.CaloricLevel.FAT;
+    }
+  }
+
+  // ==================================================
+  // 컬렉터
+  // ==================================================
+  /**
+   * 임의의 다운스트림 컬렉터를 쓰는 N단계 그룹화
+   */
+  @SafeVarargs
+  public static <T, A, D> Collector<T, ?, Result<D>> groupingBy(Collector<? super T, A, D> downstream,
+      Level<? super T, ?>... levels) {
+    List<Level<? super T, ?>> list = new ArrayList<>(levels.length);
+    for (Level<? super T, ?> level : levels) {
+      list.add(level);
+    }
+    KeyLayout<T> layout = new KeyLayout<>(list);
+    return Collector.<T, Table<T, A>, Result<D>>of(
+        () -> new Table<>(layout, downstream),
+        Table::accumulate,
+        Table::combine,
+        table -> table.finish(downstream));
+  }
+
+  /**
+   * 기본형 빠른 경로: 그룹별 합계를 long[]에 바로 누적 (그룹 컨테이너 객체 없음)
+   */
+  @SafeVarargs
+  public static <T> Collector<T, ?, Result<Long>> summingLong(ToLongFunction<? super T> mapper,
+      Level<? super T, ?>... levels) {
+    List<Level<? super T, ?>> list = new ArrayList<>(levels.length);
+    for (Level<? super T, ?> level : levels) {
+      list.add(level);
+    }
+    return summing(mapper, list);
+  }
+
+  @SafeVarargs
+  public static <T> Collector<T, ?, Result<Long>> counting(Level<? super T, ?>... levels) {
+    List<Level<? super T, ?>> list = new ArrayList<>(levels.length);
+    for (Level<? super T, ?> level : levels) {
+      list.add(level);
+    }
+    return summing(t -> 1L, list);
+  }
+
+  private static <T> Collector<T, ?, Result<Long>> summing(ToLongFunction<? super T> mapper,
+      List<Level<? super T, ?>> levels) {
+    KeyLayout<T> layout = new KeyLayout<>(levels);
+    return Collector.<T, Table<T, Object>, Result<Long>>of(
+        () -> new Table<>(layout, mapper),
+        Table::accumulate,
+        Table::combine,
+        Table::finishSums,
+        Collector.Characteristics.UNORDERED);
+  }
+
+  // ==================================================
+  // 수준 (키 ↔ 정수 코드)
+  // ==================================================
+  /**
+   * 그룹화 한 단계: 요소 → 코드 [0, cardinality), 코드 ↔ 키
+   */
+  public static final class Level<T, K> {
+
+    private final ToIntFunction<? super T> encoder;
+    private final int cardinality;
+    private final IntFunction<K> decoder;
+    private final Class<K> keyType;
+    private final ToIntFunction<? super K> keyEncoder;
+
+    /**
+     * @param encoder 요소 → 코드
+     * @param cardinality 코드 개수
+     * @param decoder 코드 → 키 (결과 출력용)
+     * @param keyType 키 타입 (Result.get에 다른 타입이나 null이 오면 그룹 없음으로 처리)
+     * @param keyEncoder 키 → 코드 (Result.get 조회용, keyType의 null이 아닌 키만 받음)
+     */
+    public Level(ToIntFunction<? super T> encoder, int cardinality, IntFunction<K> decoder, Class<K> keyType,
+        ToIntFunction<? super K> keyEncoder) {
+      if (cardinality <= 0) {
+        throw new IllegalArgumentException("Cardinality must be positive: " + cardinality);
+      }
+      this.encoder = encoder;
+      this.cardinality = cardinality;
+      this.decoder = decoder;
+      this.keyType = keyType;
+      this.keyEncoder = keyEncoder;
+    }
+
+    public static <T, E extends Enum<E>> Level<T, E> ofEnum(Class<E> type, Function<? super T, E> classifier) {
+      E[] constants = type.getEnumConstants();
+      return new Level<>(t -> classifier.apply(t).ordinal(), constants.length, code -> constants[code], type,
+          Enum::ordinal);
+    }
+
+    /**
+     * [min, max] 범위의 int 키 (연도, 칼로리 구간, 사전 코드 등)
+     */
+    public static <T> Level<T, Integer> ofRange(ToIntFunction<? super T> key, int min, int max) {
+      if (max < min) {
+        throw new IllegalArgumentException("Invalid range [" + min + ", " + max + "]");
+      }
+      return new Level<>(t -> key.applyAsInt(t) - min, max - min + 1, code -> code + min, Integer.class,
+          k -> k - min);
+    }
+
+    int encode(T item) {
+      int code = encoder.applyAsInt(item);
+      if (code < 0 || code >= cardinality) {
+        throw new IllegalArgumentException("Key code " + code + " out of range [0, " + cardinality + ")");
+      }
+      return code;
+    }
+
+    K decode(int code) {
+      return decoder.apply(code);
+    }
+
+    /**
+     * 키 → 코드, 이 수준에 없는 키(null, 다른 타입, 범위 밖)면 -1
+     *
+     * 타입은 여기서 먼저 확인 → keyEncoder 안에서 난 예외는 그대로 전파
+     */
+    int codeOfKey(Object key) {
+      if (!keyType.isInstance(key)) {
+        return -1;
+      }
+      int code = keyEncoder.applyAsInt(keyType.cast(key));
+      return code >= 0 && code < cardinality ? code : -1;
+    }
+
+    int bits() {
+      return cardinality == 1 ? 1 : 32 - Integer.numberOfLeadingZeros(cardinality - 1);
+    }
+
+  }
+
+  /**
+   * 수준별 비트 위치 (컬렉터 하나당 한 번 계산)
+   *
+   * 마지막 수준부터 낮은 비트에 배치 → 첫 수준이 가장 높은 비트
+   */
+  private static final class KeyLayout<T> {
+
+    private final List<Level<? super T, ?>> levels;
+    private final int[] shifts;
+    private final long[] masks;
+
+    KeyLayout(List<Level<? super T, ?>> levels) {
+      if (levels.isEmpty()) {
+        throw new IllegalArgumentException("At least one level is required");
+      }
+      this.levels = levels;
+      this.shifts = new int[levels.size()];
+      this.masks = new long[levels.size()];
+      int shift = 0;
+      for (int i = levels.size() - 1; i >= 0; i--) {
+        shifts[i] = shift;
+        masks[i] = (1L << levels.get(i).bits()) - 1;
+        shift += levels.get(i).bits();
+      }
+      if (shift > 63) {
+        throw new IllegalArgumentException("Composite key needs " + shift + " bits, at most 63 supported");
+      }
+    }
+
+    long pack(T item) {
+      long packed = 0;
+      for (int i = 0; i < levels.size(); i++) {
+        packed |= (long) levels.get(i).encode(item) << shifts[i];
+      }
+      return packed;
+    }
+
+    int code(long packed, int level) {
+      return (int) ((packed >>> shifts[level]) & masks[level]);
+    }
+
+    Object key(long packed, int level) {
+      return levels.get(level).decode(code(packed, level));
+    }
+
+    int depth() {
+      return levels.size();
+    }
+
+  }
+
+  // ==================================================
+  // 평면 테이블 (long 키 오픈 어드레싱)
+  // ==================================================
+  /**
+   * 압축 키 → 다운스트림 컨테이너 (또는 long 합계)
+   *
+   * - 빈 슬롯은 키 -1로 표시 (압축 키는 항상 0 이상)
+   * - 선형 탐사, 적재율 50%에서 2배 재해싱
+   */
+  private static final class Table<T, A> {
+
+    private final KeyLayout<T> layout;
+    private final Supplier<A> supplier;
+    private final BiConsumer<A, ? super T> accumulator;
+    private final BinaryOperator<A> combiner;
+    private final ToLongFunction<? super T> mapper;
+
+    private long[] keys;
+    private Object[] containers;
+    private long[] sums;
+    private int size;
+    private int mask;
+
+    Table(KeyLayout<T> layout, Collector<? super T, A, ?> downstream) {
+      this.layout = layout;
+      this.supplier = downstream.supplier();
+      this.accumulator = downstream.accumulator();
+      this.combiner = downstream.combiner();
+      this.mapper = null;
+      allocate(DEFAULT_CAPACITY);
+    }
+
+    Table(KeyLayout<T> layout, ToLongFunction<? super T> mapper) {
+      this.layout = layout;
+      this.supplier = null;
+      this.accumulator = null;
+      this.combiner = null;
+      this.mapper = mapper;
+      allocate(DEFAULT_CAPACITY);
+    }
+
+    @SuppressWarnings("unchecked")
+    void accumulate(T item) {
+      int slot = slotFor(layout.pack(item));
+      if (mapper != null) {
+        sums[slot] += mapper.applyAsLong(item);
+      }
+      else {
+        accumulator.accept((A) containers[slot], item);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    Table<T, A> combine(Table<T, A> other) {
+      for (int i = 0; i < other.keys.length; i++) {
+        long key = other.keys[i];
+        if (key == EMPTY) {
+          continue;
+        }
+        int slot = slotFor(key);
+        if (mapper != null) {
+          sums[slot] += other.sums[i];
+        }
+        else {
+          containers[slot] = combiner.apply((A) containers[slot], (A) other.containers[i]);
+        }
+      }
+      return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    <D> Result<D> finish(Collector<? super T, A, D> collector) {
+      Function<A, D> finisher = collector.finisher();
+      long[] sorted = sortedKeys();
+      Object[] values = new Object[sorted.length];
+      for (int i = 0; i < sorted.length; i++) {
+        values[i] = finisher.apply((A) containers[slotOf(sorted[i])]);
+      }
+      return new Result<>(layout, sorted, values);
+    }
+
+    Result<Long> finishSums() {
+      long[] sorted = sortedKeys();
+      Object[] values = new Object[sorted.length];
+      for (int i = 0; i < sorted.length; i++) {
+        values[i] = sums[slotOf(sorted[i])];
+      }
+      return new Result<>(layout, sorted, values);
+    }
+
+    /**
+     * 키를 찾고, 없으면 새 그룹을 만든다
+     */
+    private int slotFor(long key) {
+      int slot = slotOf(key);
+      if (keys[slot] == EMPTY) {
+        keys[slot] = key;
+        if (mapper == null) {
+          containers[slot] = supplier.get();
+        }
+        if (++size * 2 > keys.length) {
+          rehash(keys.length * 2);
+          slot = slotOf(key);
+        }
+      }
+      return slot;
+    }
+
+    private int slotOf(long key) {
+      int slot = mix(key) & mask;
+      while (keys[slot] != EMPTY && keys[slot] != key) {
+        slot = (slot + 1) & mask;
+      }
+      return slot;
+    }
+
+    private long[] sortedKeys() {
+      long[] sorted = new long[size];
+      int k = 0;
+      for (long key : keys) {
+        if (key != EMPTY) {
+          sorted[k++] = key;
+        }
+      }
+      Arrays.sort(sorted);
+      return sorted;
+    }
+
+    private void rehash(int newCapacity) {
+      long[] oldKeys = keys;
+      Object[] oldContainers = containers;
+      long[] oldSums = sums;
+      allocate(newCapacity);
+      for (int i = 0; i < oldKeys.length; i++) {
+        if (oldKeys[i] != EMPTY) {
+          int slot = slotOf(oldKeys[i]);
+          keys[slot] = oldKeys[i];
+          if (mapper != null) {
+            sums[slot] = oldSums[i];
+          }
+          else {
+            containers[slot] = oldContainers[i];
+          }
+        }
+      }
+    }
+
+    private void allocate(int capacity) {
+      keys = new long[capacity];
+      Arrays.fill(keys, EMPTY);
+      if (mapper != null) {
+        sums = new long[capacity];
+      }
+      else {
+        containers = new Object[capacity];
+      }
+      mask = capacity - 1;
+    }
+
+    private static int mix(long key) {
+      long h = key * 0x9E3779B97F4A7C15L;
+      return (int) (h ^ (h >>> 32));
+    }
+
+  }
+
+  // ==================================================
+  // 결과 (평면 + 요청 시 중첩 뷰)
+  // ==================================================
+  /**
+   * 압축 키 순으로 정렬된 (키, 값) 배열
+   *
+   * - get(k1, k2, ...): 이진 탐색 → O(log 그룹 수), Map 생성 없음
+   * - forEach: 평면 순회
+   * - toNestedMap(수준...): groupingBy와 같은 모양의 중첩 Map을 그때 생성 (수집에 쓴 Level로 타입 확인)
+   *   (정렬되어 있으므로 각 수준은 코드 순서 = enum 선언 순서)
+   */
+  public static final class Result<D> {
+
+    private final KeyLayout<?> layout;
+    private final long[] keys;
+    private final Object[] values;
+
+    private Result(KeyLayout<?> layout, long[] keys, Object[] values) {
+      this.layout = layout;
+      this.keys = keys;
+      this.values = values;
+    }
+
+    public int size() {
+      return keys.length;
+    }
+
+    /**
+     * 각 수준의 키를 순서대로 전달, 그룹이 없으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public D get(Object... groupKeys) {
+      if (groupKeys.length != layout.depth()) {
+        throw new IllegalArgumentException("Expected " + layout.depth() + " keys, got " + groupKeys.length);
+      }
+      long packed = 0;
+      for (int level = 0; level < groupKeys.length; level++) {
+        int code = layout.levels.get(level).codeOfKey(groupKeys[level]);
+        if (code < 0) {
+          return null;
+        }
+        packed |= (long) code << layout.shifts[level];
+      }
+      int index = Arrays.binarySearch(keys, packed);
+      return index >= 0 ? (D) values[index] : null;
+    }
+
+    /**
+     * 키 목록과 값을 평면으로 순회 (중첩 Map 없이 결과 소비)
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super Object[], ? super D> action) {
+      Object[] groupKeys = new Object[layout.depth()];
+      for (int i = 0; i < keys.length; i++) {
+        for (int level = 0; level < groupKeys.length; level++) {
+          groupKeys[level] = layout.key(keys[i], level);
+        }
+        action.accept(groupKeys.clone(), (D) values[i]);
+      }
+    }
+
+    /**
+     * groupingBy(c1, groupingBy(c2, ...))와 같은 모양의 중첩 Map (키/값 타입 없음, 출력용)
+     *
+     * 타입이 필요하면 수집에 쓴 Level을 넘기는 toNestedMap(first, second[, third])
+     */
+    public Map<?, ?> toNestedMap() {
+      return nested();
+    }
+
+    /**
+     * 2단계 결과의 타입 있는 중첩 Map
+     *
+     * Map<Dish.Type, Map<CaloricLevel, List<Dish>>> m = result.toNestedMap(byType, byCaloricLevel);
+     *
+     * @throws IllegalArgumentException 수집에 쓴 Level(같은 객체, 같은 순서)이 아니면
+     */
+    @SuppressWarnings("unchecked")
+    public <K1, K2> Map<K1, Map<K2, D>> toNestedMap(Level<?, K1> first, Level<?, K2> second) {
+      checkLevels(first, second);
+      return (Map<K1, Map<K2, D>>) (Map<?, ?>) nested();
+    }
+
+    /**
+     * 3단계 결과의 타입 있는 중첩 Map
+     *
+     * @throws IllegalArgumentException 수집에 쓴 Level(같은 객체, 같은 순서)이 아니면
+     */
+    @SuppressWarnings("unchecked")
+    public <K1, K2, K3> Map<K1, Map<K2, Map<K3, D>>> toNestedMap(Level<?, K1> first, Level<?, K2> second,
+        Level<?, K3> third) {
+      checkLevels(first, second, third);
+      return (Map<K1, Map<K2, Map<K3, D>>>) (Map<?, ?>) nested();
+    }
+
+    /**
+     * 키는 각 Level의 decoder가 만들므로 같은 Level이면 타입 인자가 실제 키 타입과 일치
+     */
+    private void checkLevels(Level<?, ?>... expected) {
+      if (expected.length != layout.depth()) {
+        throw new IllegalArgumentException("Result has " + layout.depth() + " levels, got " + expected.length);
+      }
+      for (int level = 0; level < expected.length; level++) {
+        if (expected[level] != layout.levels.get(level)) {
+          throw new IllegalArgumentException("Level " + level + " is not the level used for grouping");
+        }
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Object, Object> nested() {
+      Map<Object, Object> root = new LinkedHashMap<>();
+      int last = layout.depth() - 1;
+      for (int i = 0; i < keys.length; i++) {
+        Map<Object, Object> current = root;
+        for (int level = 0; level < last; level++) {
+          current = (Map<Object, Object>) current.computeIfAbsent(layout.key(keys[i], level),
+              k -> new LinkedHashMap<>());
+        }
+        current.put(layout.key(keys[i], last), values[i]);
+      }
+      return root;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("{");
+      forEach((groupKeys, value) -> {
+        if (sb.length() > 1) {
+          sb.append(", ");
+        }
+        sb.append(Arrays.toString(groupKeys)).append('=').append(value);
+      });
+      return sb.append('}').toString();
+    }
+
+  }
+
+}
@@ -0,0 +1,129 @@
+package chapter06.code;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 중첩 groupingBy vs 합성 키 평면 테이블 벤치마크
+ *
+ * 데이터:
+ * - 메뉴를 무작위로 복제한 요리 1천만 개
+ *
+ * 비교:
+ * - 2단계 (타입 × 칼로리 레벨): toList / counting
+ * - 3단계 (타입 × 칼로리 레벨 × 채식): counting
+ * - flat...Nested: 평면 결과를 중첩 Map으로 바꾸는 비용까지 포함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Measurement(iterations = 2)
+@Warmup(iterations = 3)
+public class FlatGroupingBenchmark {
+
+  private static final int N = 10_000_000;
+
+  private static final FlatGrouping.Level<Dish, Dish.Type> BY_TYPE =
+      FlatGrouping.Level.ofEnum(Dish.Type.class, Dish::getType);
+  private static final FlatGrouping.Level<Dish, Grouping.CaloricLevel> BY_CALORIC_LEVEL =
+      FlatGrouping.Level.ofEnum(Grouping.CaloricLevel.class, FlatGrouping::caloricLevel);
+  private static final FlatGrouping.Level<Dish, Integer> BY_VEGETARIAN =
+      FlatGrouping.Level.ofRange(d -> d.isVegetarian() ? 1 : 0, 0, 1);
+
+  private List<Dish> dishes;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    dishes = new ArrayList<>(N);
+    for (int i = 0; i < N; i++) {
+      dishes.add(Dish.menu.get(random.nextInt(Dish.menu.size())));
+    }
+  }
+
+  // ==================================================
+  // 2단계, toList
+  // ==================================================
+  @Benchmark
+  public Map<Dish.Type, Map<Grouping.CaloricLevel, List<Dish>>> nestedToList() {
+    return dishes.stream().collect(groupingBy(Dish::getType, groupingBy(FlatGrouping::caloricLevel)));
+  }
+
+  @Benchmark
+  public Map<Dish.Type, Map<Grouping.CaloricLevel, List<Dish>>> flatToListNested() {
+    return dishes.stream().collect(FlatGrouping.groupingBy(toList(), BY_TYPE, BY_CALORIC_LEVEL))
+        .toNestedMap(BY_TYPE, BY_CALORIC_LEVEL);
+  }
+
+  // ==================================================
+  // 2단계, counting
+  // ==================================================
+  @Benchmark
+  public Map<Dish.Type, Map<Grouping.CaloricLevel, Long>> nestedCounting() {
+    return dishes.stream()
+        .collect(groupingBy(Dish::getType, groupingBy(FlatGrouping::caloricLevel, counting())));
+  }
+
+  @Benchmark
+  public FlatGrouping.Result<Long> flatCounting() {
+    return dishes.stream().collect(FlatGrouping.counting(BY_TYPE, BY_CALORIC_LEVEL));
+  }
+
+  @Benchmark
+  public FlatGrouping.Result<Long> flatDownstreamCounting() {
+    return dishes.stream().collect(FlatGrouping.groupingBy(counting(), BY_TYPE, BY_CALORIC_LEVEL));
+  }
+
+  // ==================================================
+  // 3단계, counting
+  // ==================================================
+  @Benchmark
+  public Map<Dish.Type, Map<Grouping.CaloricLevel, Map<Boolean, Long>>> nestedCounting3() {
+    return dishes.stream()
+        .collect(groupingBy(Dish::getType,
+            groupingBy(FlatGrouping::caloricLevel, groupingBy(Dish::isVegetarian, counting()))));
+  }
+
+  @Benchmark
+  public FlatGrouping.Result<Long> flatCounting3() {
+    return dishes.stream().collect(FlatGrouping.counting(BY_TYPE, BY_CALORIC_LEVEL, BY_VEGETARIAN));
+  }
+
+  @Benchmark
+  public Map<Dish.Type, Map<Grouping.CaloricLevel, Map<Integer, Long>>> flatCounting3Nested() {
+    return dishes.stream().collect(FlatGrouping.counting(BY_TYPE, BY_CALORIC_LEVEL, BY_VEGETARIAN))
+        .toNestedMap(BY_TYPE, BY_CALORIC_LEVEL, BY_VEGETARIAN);
+  }
+
+  @Benchmark
+  public FlatGrouping.Result<Long> parallelFlatCounting3() {
+    return dishes.parallelStream().collect(FlatGrouping.counting(BY_TYPE, BY_CALORIC_LEVEL, BY_VEGETARIAN));
+  }
+
+  @Benchmark
+  public Map<Dish.Type, Map<Grouping.CaloricLevel, Map<Boolean, Long>>> parallelNestedCounting3() {
+    return dishes.parallelStream()
+        .collect(groupingBy(Dish::getType,
+            groupingBy(FlatGrouping::caloricLevel, groupingBy(Dish::isVegetarian, counting()))));
+  }
+
+}
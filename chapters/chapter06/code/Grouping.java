@@ -13,6 +13,7 @@ import static java.util.stream.Collectors.summingInt;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -98,6 +99,14 @@ public class Grouping {
     
     System.out.println("11. 타입별 칼로리 레벨:");
     System.out.println(caloricLevelsByType());
+    System.out.println();
+
+    System.out.println("12. 타입 + 칼로리 레벨 (합성 키, 평면 테이블):");
+    System.out.println(groupDishesByTypeAndCaloricLevelFlat());
+    System.out.println();
+
+    System.out.println("13. 타입별 칼로리 상위 2개 요리:");
+    System.out.println(topCaloricDishesByType(2));
   }
 
   // ==================================================
@@ -494,6 +503,53 @@ public class Grouping {
         );
   }
 
+  // ==================================================
+  // 12. 합성 키 그룹화 - 6번의 평면 테이블 버전
+  // ==================================================
+  /**
+   * FlatGrouping: 타입과 칼로리 레벨을 long 키 하나로 압축
+   * 
+   * 6번과 비교:
+   * - 6번: 요소마다 바깥 맵 조회 + 안쪽 맵 조회, 타입마다 HashMap 생성
+   * - 12번: 요소마다 평면 테이블 조회 1번, 중첩 Map은 마지막에 한 번 생성
+   * 
+   * 결과 구조는 6번과 같음 (각 수준은 enum 선언 순서)
+   */
+  private static Map<Dish.Type, Map<CaloricLevel, List<Dish>>> groupDishesByTypeAndCaloricLevelFlat() {
+    FlatGrouping.Level<Dish, Dish.Type> byType = FlatGrouping.Level.ofEnum(Dish.Type.class, Dish::getType);
+    FlatGrouping.Level<Dish, CaloricLevel> byCaloricLevel =
+        FlatGrouping.Level.ofEnum(CaloricLevel.class, FlatGrouping::caloricLevel);
+    return menu.stream()
+        .collect(FlatGrouping.groupingBy(toList(), byType, byCaloricLevel))
+        .toNestedMap(byType, byCaloricLevel);
+  }
+
+  // ==================================================
+  // 13. 상위 N개 - 크기 제한 힙
+  // ==================================================
+  /**
+   * groupingBy + TopNCollectors.topN(n, comparator)
+   * 
+   * 8, 9번(maxBy)의 일반화:
+   * - maxBy: 그룹마다 1개
+   * - topN: 그룹마다 크기 n의 힙 → 상위 n개 (큰 것부터 정렬)
+   * 
+   * toList() 후 정렬과 비교:
+   * - 그룹 리스트 전체를 보관하지 않음 → 메모리 O(그룹 수 × n)
+   * 
+   * 결과 (n = 2):
+   * {MEAT=[pork, beef], FISH=[salmon, prawns], OTHER=[pizza, french fries]}
+   */
+  private static Map<Dish.Type, List<Dish>> topCaloricDishesByType(int n) {
+    return menu.stream()
+        .collect(
+            groupingBy(
+                Dish::getType,
+                TopNCollectors.topN(n, Comparator.comparingInt(Dish::getCalories))
+            )
+        );
+  }
+
 }
 
 /**
@@ -511,6 +567,8 @@ public class Grouping {
  * │ 평면화          │ flatMapping()    │ Map<K, Set>    │
  * │ 필터링          │ filtering()      │ Map<K, List>   │
  * │ 다수준          │ groupingBy()     │ Map<K, Map>    │
+ * │ 합성 키         │ FlatGrouping     │ 평면 → 중첩    │
+ * │ 상위 N개        │ topN()           │ Map<K, List>   │
  * └─────────────────┴──────────────────┴────────────────┘
  * 
  * groupingBy 오버로드:
@@ -1,6 +1,7 @@
 package chapter06.code;
 
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -29,6 +30,8 @@ public class GroupingTransactions {
   public static void main(String... args) {
     groupImperatively();
     groupFunctionally();
+    groupInParallel();
+    sumByCurrency();
   }
 
   private static void groupImperatively() {
@@ -52,6 +55,18 @@ public class GroupingTransactions {
     System.out.println(transactionsByCurrencies);
   }
 
+  private static void groupInParallel() {
+    ParallelGroupingEngine<Transaction, Currency, ?, List<Transaction>> engine =
+        new ParallelGroupingEngine<>(Transaction::getCurrency, toList());
+    Map<Currency, List<Transaction>> transactionsByCurrencies = engine.groupMerging(transactions);
+    System.out.println(transactionsByCurrencies);
+  }
+
+  private static void sumByCurrency() {
+    Map<Currency, Double> sumsByCurrency = CurrencySums.sumByCurrency(transactions);
+    System.out.println(sumsByCurrency);
+  }
+
   public static class Transaction {
 
     private final Currency currency;
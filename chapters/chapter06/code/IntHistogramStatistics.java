@@ -0,0 +1,192 @@
+package chapter06.code;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+
+/**
+ * 한 번의 순회로 모으는 int 통계 + 고정 구간 히스토그램
+ *
+ * IntSummaryStatistics와 비교:
+ * - 같음: count, sum, min, max, average
+ * - 추가: 분산(variance), 표준편차, 고정 폭 히스토그램
+ *
+ * Summarizing의 counting, maxBy, summingInt, averagingInt, summarizingInt를
+ * 각각 실행하면 menu를 다섯 번 순회 → 이 컬렉터 하나로 한 번만 순회
+ *
+ * 분산 계산 (Welford):
+ * - 평균과 편차 제곱합(m2)을 요소마다 갱신 → sum of squares 방식보다 수치 안정적
+ * - 병렬 병합은 Chan의 공식:
+ *   delta = meanB - meanA
+ *   m2 = m2A + m2B + delta² × nA × nB / (nA + nB)
+ *
+ * 히스토그램:
+ * - [lower, upper)를 buckets개 같은 폭으로 나눔
+ * - 범위 밖 값은 underflow / overflow에 따로 집계
+ */
+public class IntHistogramStatistics implements IntConsumer {
+
+  private final int lower;
+  private final int upper;
+  private final long[] buckets;
+
+  private long count;
+  private long sum;
+  private int min = Integer.MAX_VALUE;
+  private int max = Integer.MIN_VALUE;
+  private double mean;
+  private double m2;
+  private long underflow;
+  private long overflow;
+
+  /**
+   * @param lower 히스토그램 하한 (포함)
+   * @param upper 히스토그램 상한 (제외)
+   * @param bucketCount 구간 개수
+   */
+  public IntHistogramStatistics(int lower, int upper, int bucketCount) {
+    if (upper <= lower || bucketCount <= 0) {
+      throw new IllegalArgumentException(
+          "Invalid histogram range [" + lower + ", " + upper + ") with " + bucketCount + " buckets");
+    }
+    this.lower = lower;
+    this.upper = upper;
+    this.buckets = new long[bucketCount];
+  }
+
+  /**
+   * summarizingInt(mapper)의 히스토그램 버전
+   *
+   * 사용 예:
+   * menu.stream().collect(summarizingWithHistogram(Dish::getCalories, 0, 1000, 10))
+   */
+  public static <T> Collector<T, ?, IntHistogramStatistics> summarizingWithHistogram(
+      ToIntFunction<? super T> mapper, int lower, int upper, int bucketCount) {
+    return Collector.of(
+        () -> new IntHistogramStatistics(lower, upper, bucketCount),
+        (stats, item) -> stats.accept(mapper.applyAsInt(item)),
+        IntHistogramStatistics::combine,
+        Collector.Characteristics.IDENTITY_FINISH);
+  }
+
+  @Override
+  public void accept(int value) {
+    count++;
+    sum += value;
+    min = Math.min(min, value);
+    max = Math.max(max, value);
+
+    double delta = value - mean;
+    mean += delta / count;
+    m2 += delta * (value - mean);
+
+    if (value < lower) {
+      underflow++;
+    }
+    else if (value >= upper) {
+      overflow++;
+    }
+    else {
+      buckets[(int) (((long) value - lower) * buckets.length / ((long) upper - lower))]++;
+    }
+  }
+
+  /**
+   * other를 이 객체에 병합 (병렬 스트림의 combiner)
+   */
+  public IntHistogramStatistics combine(IntHistogramStatistics other) {
+    if (other.lower != lower || other.upper != upper || other.buckets.length != buckets.length) {
+      throw new IllegalArgumentException("Histogram layouts differ");
+    }
+    if (other.count == 0) {
+      return this;
+    }
+    if (count == 0) {
+      mean = other.mean;
+      m2 = other.m2;
+    }
+    else {
+      long total = count + other.count;
+      double delta = other.mean - mean;
+      mean += delta * other.count / total;
+      m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+    }
+    count += other.count;
+    sum += other.sum;
+    min = Math.min(min, other.min);
+    max = Math.max(max, other.max);
+    underflow += other.underflow;
+    overflow += other.overflow;
+    for (int i = 0; i < buckets.length; i++) {
+      buckets[i] += other.buckets[i];
+    }
+    return this;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public long getSum() {
+    return sum;
+  }
+
+  public int getMin() {
+    return min;
+  }
+
+  public int getMax() {
+    return max;
+  }
+
+  public double getAverage() {
+    return count > 0 ? (double) sum / count : 0.0;
+  }
+
+  /**
+   * 모분산 (n으로 나눔)
+   */
+  public double getVariance() {
+    return count > 0 ? m2 / count : 0.0;
+  }
+
+  /**
+   * 표본분산 (n - 1로 나눔)
+   */
+  public double getSampleVariance() {
+    return count > 1 ? m2 / (count - 1) : 0.0;
+  }
+
+  public double getStandardDeviation() {
+    return Math.sqrt(getVariance());
+  }
+
+  public long[] getBuckets() {
+    return buckets.clone();
+  }
+
+  /**
+   * i번째 구간의 하한 (포함)
+   */
+  public int bucketLowerBound(int i) {
+    return (int) (lower + ((long) upper - lower) * i / buckets.length);
+  }
+
+  public long getUnderflow() {
+    return underflow;
+  }
+
+  public long getOverflow() {
+    return overflow;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s{count=%d, sum=%d, min=%d, average=%f, max=%d, variance=%f, histogram=%s, underflow=%d, overflow=%d}",
+        getClass().getSimpleName(), count, sum, min, getAverage(), max, getVariance(),
+        Arrays.toString(buckets), underflow, overflow);
+  }
+
+}
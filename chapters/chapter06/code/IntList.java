@@ -0,0 +1,87 @@
+package chapter06.code;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * int 전용 가변 리스트
+ *
+ * List<Integer>와의 차이:
+ * - List<Integer>: 요소마다 Integer 객체 (16 bytes + 참조 4~8 bytes)
+ * - IntList: int[] 하나에 연속 저장 (요소당 4 bytes)
+ *
+ * 동작:
+ * - 용량이 부족하면 1.5배로 늘린 배열에 복사 (ArrayList와 동일한 전략)
+ * - addAll은 System.arraycopy 한 번으로 병합 (combiner용)
+ */
+public class IntList {
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private int[] data;
+  private int size;
+
+  public IntList() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public IntList(int initialCapacity) {
+    this.data = new int[Math.max(initialCapacity, 1)];
+  }
+
+  public void add(int value) {
+    if (size == data.length) {
+      grow(size + 1);
+    }
+    data[size++] = value;
+  }
+
+  public void addAll(IntList other) {
+    if (size + other.size > data.length) {
+      grow(size + other.size);
+    }
+    System.arraycopy(other.data, 0, data, size, other.size);
+    size += other.size;
+  }
+
+  public int get(int index) {
+    if (index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    return data[index];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public int[] toArray() {
+    return Arrays.copyOf(data, size);
+  }
+
+  public IntStream stream() {
+    return Arrays.stream(data, 0, size);
+  }
+
+  private void grow(int minCapacity) {
+    int newCapacity = Math.max(data.length + (data.length >> 1), minCapacity);
+    data = Arrays.copyOf(data, newCapacity);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("[");
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        sb.append(", ");
+      }
+      sb.append(data[i]);
+    }
+    return sb.append(']').toString();
+  }
+
+}
@@ -0,0 +1,151 @@
+package chapter06.code;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * int 키 → long 값 해시 맵 (오픈 어드레싱)
+ *
+ * Map<Integer, Long>와의 차이:
+ * - HashMap: 엔트리마다 Node + Integer 키 + Long 값 객체
+ * - IntLongMap: int[] 키, long[] 값, boolean[] 사용 여부 → 객체 생성 없음
+ *
+ * 동작:
+ * - 선형 탐사(linear probing)로 충돌 처리
+ * - 적재율 50%를 넘으면 2배로 재해싱
+ * - addTo(key, delta): 키가 없으면 0에서 시작해 delta를 더함
+ *   → counting(), summingInt()를 키별로 박싱 없이 수행
+ */
+public class IntLongMap {
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private int[] keys;
+  private long[] values;
+  private boolean[] used;
+  private int size;
+  private int mask;
+
+  public IntLongMap() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public IntLongMap(int expectedSize) {
+    int capacity = Integer.highestOneBit(Math.max(expectedSize, 2) * 2 - 1) << 1;
+    allocate(capacity);
+  }
+
+  /**
+   * key의 값에 delta를 더한다 (없으면 0에서 시작)
+   */
+  public void addTo(int key, long delta) {
+    int slot = slotOf(key);
+    if (used[slot]) {
+      values[slot] += delta;
+      return;
+    }
+    used[slot] = true;
+    keys[slot] = key;
+    values[slot] = delta;
+    if (++size * 2 > keys.length) {
+      rehash(keys.length * 2);
+    }
+  }
+
+  public void increment(int key) {
+    addTo(key, 1L);
+  }
+
+  /**
+   * key에 대응하는 값, 없으면 0
+   */
+  public long get(int key) {
+    int slot = slotOf(key);
+    return used[slot] ? values[slot] : 0L;
+  }
+
+  public boolean containsKey(int key) {
+    return used[slotOf(key)];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * other의 모든 엔트리를 이 맵에 더한다 (병렬 컬렉터의 combiner)
+   */
+  public void addAll(IntLongMap other) {
+    for (int i = 0; i < other.keys.length; i++) {
+      if (other.used[i]) {
+        addTo(other.keys[i], other.values[i]);
+      }
+    }
+  }
+
+  public void forEach(IntLongConsumer action) {
+    for (int i = 0; i < keys.length; i++) {
+      if (used[i]) {
+        action.accept(keys[i], values[i]);
+      }
+    }
+  }
+
+  /**
+   * 출력/비교용 박싱 맵 (키 순서로 정렬)
+   */
+  public Map<Integer, Long> toMap() {
+    Map<Integer, Long> result = new TreeMap<>();
+    forEach(result::put);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return toMap().toString();
+  }
+
+  private int slotOf(int key) {
+    int slot = mix(key) & mask;
+    while (used[slot] && keys[slot] != key) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private void rehash(int newCapacity) {
+    int[] oldKeys = keys;
+    long[] oldValues = values;
+    boolean[] oldUsed = used;
+    allocate(newCapacity);
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldUsed[i]) {
+        int slot = slotOf(oldKeys[i]);
+        used[slot] = true;
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new int[capacity];
+    values = new long[capacity];
+    used = new boolean[capacity];
+    mask = capacity - 1;
+  }
+
+  /**
+   * 연속된 키(연도, 칼로리 구간 등)가 인접 슬롯에 몰리지 않도록 비트 섞기
+   */
+  private static int mix(int key) {
+    int h = key * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  @FunctionalInterface
+  public interface IntLongConsumer {
+    void accept(int key, long value);
+  }
+
+}
@@ -0,0 +1,83 @@
+package chapter06.code;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+/**
+ * long 전용 가변 리스트
+ *
+ * IntList의 long 버전:
+ * - LongStream.collect 결과를 List<Long> 대신 long[]에 보관
+ * - 요소당 8 bytes (Long 객체는 24 bytes + 참조)
+ */
+public class LongList {
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private long[] data;
+  private int size;
+
+  public LongList() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public LongList(int initialCapacity) {
+    this.data = new long[Math.max(initialCapacity, 1)];
+  }
+
+  public void add(long value) {
+    if (size == data.length) {
+      grow(size + 1);
+    }
+    data[size++] = value;
+  }
+
+  public void addAll(LongList other) {
+    if (size + other.size > data.length) {
+      grow(size + other.size);
+    }
+    System.arraycopy(other.data, 0, data, size, other.size);
+    size += other.size;
+  }
+
+  public long get(int index) {
+    if (index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    return data[index];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public long[] toArray() {
+    return Arrays.copyOf(data, size);
+  }
+
+  public LongStream stream() {
+    return Arrays.stream(data, 0, size);
+  }
+
+  private void grow(int minCapacity) {
+    int newCapacity = Math.max(data.length + (data.length >> 1), minCapacity);
+    data = Arrays.copyOf(data, newCapacity);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("[");
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        sb.append(", ");
+      }
+      sb.append(data[i]);
+    }
+    return sb.append(']').toString();
+  }
+
+}
@@ -0,0 +1,254 @@
+package chapter06.code;
+
+import static java.util.Comparator.comparingInt;
+import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.maxBy;
+import static java.util.stream.Collectors.summingInt;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 변경되는 메뉴 위에 유지되는 집계 뷰 (materialized view)
+ *
+ * Grouping / Partitioning의 방식:
+ * - 질의할 때마다 menu.stream()으로 전체를 다시 순회
+ * - 대시보드가 초당 수천 번 조회하면 매번 O(n)
+ *
+ * 이 클래스의 방식:
+ * - 요리가 추가/삭제/변경될 때 해당 그룹의 집계만 갱신
+ * - 갱신이 끝나면 불변 Snapshot을 새로 만들어 volatile 필드로 발행
+ * - 조회는 snapshot() 한 번 읽기 → O(1), 락 없음
+ *
+ * 갱신 비용:
+ * - 타입별 개수/칼로리 합계, 채식 분할 개수/합계: O(1)
+ * - 타입별 최대 칼로리 요리: 칼로리별 TreeMap 유지 → O(log n)
+ *   (삭제를 지원하는 최대값은 O(1)로 유지할 수 없음)
+ * - Snapshot 생성: O(타입 수) → 요소 수와 무관
+ *
+ * 일관성:
+ * - 쓰기는 synchronized로 직렬화
+ * - 읽기는 항상 하나의 완성된 Snapshot을 봄 (중간 상태 없음)
+ */
+public final class MenuAggregates {
+
+  private static final Dish.Type[] TYPES = Dish.Type.values();
+
+  private final long[] countByType = new long[TYPES.length];
+  private final long[] caloriesByType = new long[TYPES.length];
+  private final List<TreeMap<Integer, Deque<Dish>>> dishesByCalories;
+  private final long[] countByVegetarian = new long[2];
+  private final long[] caloriesByVegetarian = new long[2];
+  private final Map<Dish, Integer> multiplicity = new HashMap<>();
+
+  private volatile Snapshot snapshot;
+  private long version;
+
+  public MenuAggregates() {
+    dishesByCalories = new ArrayList<>(TYPES.length);
+    for (int i = 0; i < TYPES.length; i++) {
+      dishesByCalories.add(new TreeMap<>());
+    }
+    snapshot = buildSnapshot();
+  }
+
+  /**
+   * 초기 요리를 모두 반영한 뒤 스냅샷을 한 번만 발행
+   */
+  public MenuAggregates(List<Dish> dishes) {
+    this();
+    for (Dish dish : dishes) {
+      apply(dish, +1);
+    }
+    publish();
+  }
+
+  public static void main(String... args) {
+    MenuAggregates aggregates = new MenuAggregates(Dish.menu);
+
+    System.out.println("=== 초기 스냅샷 ===");
+    System.out.println(aggregates.snapshot());
+    System.out.println("groupingBy(counting)    : "
+        + Dish.menu.stream().collect(groupingBy(Dish::getType, counting())));
+    System.out.println("groupingBy(summingInt)  : "
+        + Dish.menu.stream().collect(groupingBy(Dish::getType, summingInt(Dish::getCalories))));
+    System.out.println("groupingBy(maxBy)       : "
+        + Dish.menu.stream().collect(groupingBy(Dish::getType,
+            collectingAndThen(maxBy(comparingInt(Dish::getCalories)), Optional::get))));
+    System.out.println();
+
+    Dish pork = Dish.menu.get(0);
+    Dish tuna = new Dish("tuna", false, 900, Dish.Type.FISH);
+    aggregates.remove(pork);
+    aggregates.add(tuna);
+    aggregates.update(Dish.menu.get(5), new Dish("season fruit", true, 90, Dish.Type.OTHER));
+
+    System.out.println("=== pork 삭제, tuna 추가, season fruit 변경 후 ===");
+    System.out.println(aggregates.snapshot());
+  }
+
+  // ==================================================
+  // 쓰기 (O(1) / 최대값만 O(log n))
+  // ==================================================
+  public synchronized void add(Dish dish) {
+    apply(dish, +1);
+    publish();
+  }
+
+  /**
+   * @return 요리가 있어서 삭제했으면 true
+   */
+  public synchronized boolean remove(Dish dish) {
+    if (!multiplicity.containsKey(dish)) {
+      return false;
+    }
+    apply(dish, -1);
+    publish();
+    return true;
+  }
+
+  /**
+   * 삭제와 추가를 하나의 스냅샷으로 발행 (중간 상태가 보이지 않음)
+   */
+  public synchronized boolean update(Dish oldDish, Dish newDish) {
+    if (!multiplicity.containsKey(oldDish)) {
+      return false;
+    }
+    apply(oldDish, -1);
+    apply(newDish, +1);
+    publish();
+    return true;
+  }
+
+  private void apply(Dish dish, int sign) {
+    int t = dish.getType().ordinal();
+    int v = dish.isVegetarian() ? 1 : 0;
+    countByType[t] += sign;
+    caloriesByType[t] += (long) sign * dish.getCalories();
+    countByVegetarian[v] += sign;
+    caloriesByVegetarian[v] += (long) sign * dish.getCalories();
+
+    TreeMap<Integer, Deque<Dish>> byCalories = dishesByCalories.get(t);
+    if (sign > 0) {
+      byCalories.computeIfAbsent(dish.getCalories(), c -> new ArrayDeque<>()).add(dish);
+      multiplicity.merge(dish, 1, Integer::sum);
+    }
+    else {
+      Deque<Dish> sameCalories = byCalories.get(dish.getCalories());
+      sameCalories.remove(dish);
+      if (sameCalories.isEmpty()) {
+        byCalories.remove(dish.getCalories());
+      }
+      multiplicity.computeIfPresent(dish, (d, n) -> n == 1 ? null : n - 1);
+    }
+  }
+
+  private void publish() {
+    version++;
+    snapshot = buildSnapshot();
+  }
+
+  // ==================================================
+  // 읽기 (락 없음)
+  // ==================================================
+  public Snapshot snapshot() {
+    return snapshot;
+  }
+
+  private Snapshot buildSnapshot() {
+    Map<Dish.Type, Long> counts = new EnumMap<>(Dish.Type.class);
+    Map<Dish.Type, Long> calories = new EnumMap<>(Dish.Type.class);
+    Map<Dish.Type, Dish> mostCaloric = new EnumMap<>(Dish.Type.class);
+    for (int t = 0; t < TYPES.length; t++) {
+      if (countByType[t] > 0) {
+        counts.put(TYPES[t], countByType[t]);
+        calories.put(TYPES[t], caloriesByType[t]);
+        mostCaloric.put(TYPES[t], dishesByCalories.get(t).lastEntry().getValue().peekFirst());
+      }
+    }
+    Map<Boolean, Long> vegetarianCounts = new HashMap<>();
+    Map<Boolean, Long> vegetarianCalories = new HashMap<>();
+    vegetarianCounts.put(false, countByVegetarian[0]);
+    vegetarianCounts.put(true, countByVegetarian[1]);
+    vegetarianCalories.put(false, caloriesByVegetarian[0]);
+    vegetarianCalories.put(true, caloriesByVegetarian[1]);
+    return new Snapshot(version, counts, calories, mostCaloric, vegetarianCounts, vegetarianCalories);
+  }
+
+  /**
+   * 한 시점의 집계 결과 (불변)
+   *
+   * 대응하는 스트림 질의:
+   * - countByType        : groupingBy(Dish::getType, counting())
+   * - caloriesByType     : groupingBy(Dish::getType, summingInt(Dish::getCalories))
+   * - mostCaloricByType  : groupingBy(Dish::getType, collectingAndThen(maxBy(...), Optional::get))
+   * - vegetarianCounts   : partitioningBy(Dish::isVegetarian, counting())
+   * - vegetarianCalories : partitioningBy(Dish::isVegetarian, summingInt(Dish::getCalories))
+   */
+  public static final class Snapshot {
+
+    private final long version;
+    private final Map<Dish.Type, Long> countByType;
+    private final Map<Dish.Type, Long> caloriesByType;
+    private final Map<Dish.Type, Dish> mostCaloricByType;
+    private final Map<Boolean, Long> vegetarianCounts;
+    private final Map<Boolean, Long> vegetarianCalories;
+
+    private Snapshot(long version, Map<Dish.Type, Long> countByType, Map<Dish.Type, Long> caloriesByType,
+        Map<Dish.Type, Dish> mostCaloricByType, Map<Boolean, Long> vegetarianCounts,
+        Map<Boolean, Long> vegetarianCalories) {
+      this.version = version;
+      this.countByType = Collections.unmodifiableMap(countByType);
+      this.caloriesByType = Collections.unmodifiableMap(caloriesByType);
+      this.mostCaloricByType = Collections.unmodifiableMap(mostCaloricByType);
+      this.vegetarianCounts = Collections.unmodifiableMap(vegetarianCounts);
+      this.vegetarianCalories = Collections.unmodifiableMap(vegetarianCalories);
+    }
+
+    public long getVersion() {
+      return version;
+    }
+
+    public Map<Dish.Type, Long> getCountByType() {
+      return countByType;
+    }
+
+    public Map<Dish.Type, Long> getCaloriesByType() {
+      return caloriesByType;
+    }
+
+    public Map<Dish.Type, Dish> getMostCaloricByType() {
+      return mostCaloricByType;
+    }
+
+    public Map<Boolean, Long> getVegetarianCounts() {
+      return vegetarianCounts;
+    }
+
+    public Map<Boolean, Long> getVegetarianCalories() {
+      return vegetarianCalories;
+    }
+
+    @Override
+    public String toString() {
+      return "Snapshot{version=" + version
+          + ", countByType=" + countByType
+          + ", caloriesByType=" + caloriesByType
+          + ", mostCaloricByType=" + mostCaloricByType
+          + ", vegetarianCounts=" + vegetarianCounts
+          + ", vegetarianCalories=" + vegetarianCalories + "}";
+    }
+
+  }
+
+}
@@ -0,0 +1,278 @@
+package chapter06.code;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.summingDouble;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+import chapter06.code.GroupingTransactions.Currency;
+import chapter06.code.GroupingTransactions.Transaction;
+
+/**
+ * 대용량 병렬 그룹화 엔진
+ *
+ * 병렬 groupingBy의 비용:
+ * - 리프마다 HashMap을 만들고, 스트림 프레임워크가 두 맵씩 병합
+ * - 병합 때 항상 오른쪽 맵을 왼쪽 맵에 넣음 (크기 고려 없음)
+ *
+ * 병렬 groupingByConcurrent의 비용:
+ * - 모든 스레드가 ConcurrentHashMap 하나를 공유
+ * - 키가 적으면 같은 버킷/다운스트림 컨테이너에서 경쟁 (synchronized)
+ *
+ * 이 엔진의 두 가지 전략:
+ *
+ * 1. 병합 트리 (groupMerging)
+ *    - RecursiveTask로 리스트를 THRESHOLD 단위까지 분할
+ *    - 리프: 스레드 로컬 HashMap에 경쟁 없이 누적
+ *    - 부모: 두 자식 맵 중 작은 쪽을 큰 쪽에 병합 → 병합 비용 O(작은 맵)
+ *    - 키가 적을 때 유리 (병합할 엔트리가 적음)
+ *
+ * 2. 스트라이프 빈 (groupStriped)
+ *    - 리프는 똑같이 로컬 맵에 누적
+ *    - 끝나면 로컬 엔트리를 키 해시로 STRIPES개 묶음으로 나눈 뒤
+ *      묶음마다 해당 스트라이프 락을 한 번만 잡고 병합
+ *    - 키가 많을 때 유리 (트리 단계마다 큰 맵을 다시 병합하지 않음)
+ *    - 리프가 끝나는 순서대로 병합 → 그룹 내 순서는 보장하지 않음 (UNORDERED)
+ *
+ * ForkJoinSumCalculator와 같은 fork → compute → join 패턴 사용
+ */
+public class ParallelGroupingEngine<T, K, A, D> {
+
+  /**
+   * 리프 작업 크기
+   */
+  public static final int THRESHOLD = 50_000;
+
+  /**
+   * 스트라이프 개수 (2의 거듭제곱)
+   */
+  private static final int STRIPES = 64;
+
+  private final Function<? super T, ? extends K> classifier;
+  private final Supplier<A> downstreamSupplier;
+  private final BiConsumer<A, ? super T> downstreamAccumulator;
+  private final BinaryOperator<A> downstreamCombiner;
+  private final Function<A, D> downstreamFinisher;
+
+  public ParallelGroupingEngine(Function<? super T, ? extends K> classifier,
+      Collector<? super T, A, D> downstream) {
+    this.classifier = classifier;
+    this.downstreamSupplier = downstream.supplier();
+    this.downstreamAccumulator = downstream.accumulator();
+    this.downstreamCombiner = downstream.combiner();
+    this.downstreamFinisher = downstream.finisher();
+  }
+
+  public static void main(String... args) {
+    ParallelGroupingEngine<Transaction, Currency, ?, Double> byCurrency =
+        new ParallelGroupingEngine<>(Transaction::getCurrency, summingDouble(Transaction::getValue));
+    System.out.println("groupingBy   : "
+        + GroupingTransactions.transactions.stream()
+            .collect(groupingBy(Transaction::getCurrency, summingDouble(Transaction::getValue))));
+    System.out.println("merge tree   : " + byCurrency.groupMerging(GroupingTransactions.transactions));
+    System.out.println("striped bins : " + byCurrency.groupStriped(GroupingTransactions.transactions));
+
+    List<Transaction> large = randomTransactions(5_000_000, 42);
+    ParallelGroupingEngine<Transaction, Integer, ?, Long> byBucket =
+        new ParallelGroupingEngine<>(t -> (int) t.getValue() % 100_000, counting());
+    Map<Integer, Long> expected = large.parallelStream()
+        .collect(groupingBy(t -> (int) t.getValue() % 100_000, counting()));
+    System.out.println("merge tree == groupingBy   : " + expected.equals(byBucket.groupMerging(large)));
+    System.out.println("striped bins == groupingBy : " + expected.equals(byBucket.groupStriped(large)));
+  }
+
+  /**
+   * 벤치마크/예제용 거래 생성 (value는 [0, 10^7) 정수값)
+   */
+  public static List<Transaction> randomTransactions(int n, long seed) {
+    Random random = new Random(seed);
+    Currency[] currencies = Currency.values();
+    List<Transaction> result = new ArrayList<>(n);
+    for (int i = 0; i < n; i++) {
+      result.add(new Transaction(currencies[random.nextInt(currencies.length)], random.nextInt(10_000_000)));
+    }
+    return result;
+  }
+
+  // ==================================================
+  // 1. 병합 트리
+  // ==================================================
+  public Map<K, D> groupMerging(List<? extends T> data) {
+    return groupMerging(data, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * @param pool 작업을 실행할 풀 (스레드 수를 바꿔 측정할 때 전용 풀 전달)
+   */
+  public Map<K, D> groupMerging(List<? extends T> data, ForkJoinPool pool) {
+    return finish(pool.invoke(new MergingTask(data, 0, data.size())));
+  }
+
+  private class MergingTask extends RecursiveTask<Map<K, A>> {
+
+    private final List<? extends T> data;
+    private final int start;
+    private final int end;
+
+    MergingTask(List<? extends T> data, int start, int end) {
+      this.data = data;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected Map<K, A> compute() {
+      int length = end - start;
+      if (length <= THRESHOLD) {
+        return accumulate(data, start, end);
+      }
+      MergingTask leftTask = new MergingTask(data, start, start + length / 2);
+      leftTask.fork();
+      MergingTask rightTask = new MergingTask(data, start + length / 2, end);
+      Map<K, A> rightResult = rightTask.compute();
+      Map<K, A> leftResult = leftTask.join();
+      return merge(leftResult, rightResult);
+    }
+
+  }
+
+  /**
+   * 작은 맵을 큰 맵에 병합
+   *
+   * 예: 왼쪽 10개 키, 오른쪽 100만 키
+   * - groupingBy: 항상 오른쪽 → 왼쪽 병합 (100만 번)
+   * - 여기서는 작은 쪽 → 큰 쪽 (10번)
+   */
+  private Map<K, A> merge(Map<K, A> left, Map<K, A> right) {
+    if (left.size() >= right.size()) {
+      for (Map.Entry<K, A> entry : right.entrySet()) {
+        left.merge(entry.getKey(), entry.getValue(), downstreamCombiner);
+      }
+      return left;
+    }
+    // 오른쪽에 병합하더라도 combiner(왼쪽, 오른쪽) 순서 유지 → 그룹 내 순서 보존
+    for (Map.Entry<K, A> entry : left.entrySet()) {
+      right.merge(entry.getKey(), entry.getValue(),
+          (fromRight, fromLeft) -> downstreamCombiner.apply(fromLeft, fromRight));
+    }
+    return right;
+  }
+
+  // ==================================================
+  // 2. 스트라이프 빈
+  // ==================================================
+  public Map<K, D> groupStriped(List<? extends T> data) {
+    return groupStriped(data, ForkJoinPool.commonPool());
+  }
+
+  public Map<K, D> groupStriped(List<? extends T> data, ForkJoinPool pool) {
+    List<Map<K, A>> stripes = new ArrayList<>(STRIPES);
+    for (int i = 0; i < STRIPES; i++) {
+      stripes.add(new HashMap<>());
+    }
+    pool.invoke(new StripedTask(data, 0, data.size(), stripes));
+
+    Map<K, A> result = new HashMap<>();
+    for (Map<K, A> stripe : stripes) {
+      result.putAll(stripe);
+    }
+    return finish(result);
+  }
+
+  private class StripedTask extends RecursiveAction {
+
+    private final List<? extends T> data;
+    private final int start;
+    private final int end;
+    private final List<Map<K, A>> stripes;
+
+    StripedTask(List<? extends T> data, int start, int end, List<Map<K, A>> stripes) {
+      this.data = data;
+      this.start = start;
+      this.end = end;
+      this.stripes = stripes;
+    }
+
+    @Override
+    protected void compute() {
+      int length = end - start;
+      if (length <= THRESHOLD) {
+        flush(accumulate(data, start, end));
+        return;
+      }
+      StripedTask leftTask = new StripedTask(data, start, start + length / 2, stripes);
+      leftTask.fork();
+      new StripedTask(data, start + length / 2, end, stripes).compute();
+      leftTask.join();
+    }
+
+    /**
+     * 로컬 엔트리를 스트라이프별로 모은 뒤 스트라이프마다 락을 한 번만 획득
+     */
+    private void flush(Map<K, A> local) {
+      List<List<Map.Entry<K, A>>> buckets = new ArrayList<>(STRIPES);
+      for (int i = 0; i < STRIPES; i++) {
+        buckets.add(new ArrayList<>());
+      }
+      for (Map.Entry<K, A> entry : local.entrySet()) {
+        buckets.get(stripeOf(entry.getKey())).add(entry);
+      }
+      for (int i = 0; i < STRIPES; i++) {
+        List<Map.Entry<K, A>> bucket = buckets.get(i);
+        if (bucket.isEmpty()) {
+          continue;
+        }
+        Map<K, A> stripe = stripes.get(i);
+        synchronized (stripe) {
+          for (Map.Entry<K, A> entry : bucket) {
+            stripe.merge(entry.getKey(), entry.getValue(), downstreamCombiner);
+          }
+        }
+      }
+    }
+
+  }
+
+  private static int stripeOf(Object key) {
+    int h = key == null ? 0 : key.hashCode();
+    h ^= h >>> 16;
+    return h & (STRIPES - 1);
+  }
+
+  // ==================================================
+  // 공통: 리프 누적과 마무리
+  // ==================================================
+  /**
+   * 스레드 로컬 맵에 순차 누적 (동기화 없음)
+   */
+  private Map<K, A> accumulate(List<? extends T> data, int start, int end) {
+    Map<K, A> local = new HashMap<>();
+    for (int i = start; i < end; i++) {
+      T item = data.get(i);
+      A container = local.computeIfAbsent(classifier.apply(item), k -> downstreamSupplier.get());
+      downstreamAccumulator.accept(container, item);
+    }
+    return local;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<K, D> finish(Map<K, A> accumulated) {
+    Map<K, Object> result = (Map<K, Object>) (Map<K, ?>) accumulated;
+    result.replaceAll((key, container) -> downstreamFinisher.apply((A) container));
+    return (Map<K, D>) (Map<K, ?>) result;
+  }
+
+}
@@ -7,10 +7,14 @@ import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.maxBy;
 import static java.util.stream.Collectors.partitioningBy;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import chapter05.code.BitmapIndex;
+import chapter05.code.CompressedBitmap;
+
 /**
  * 분할 연산 종합 예제
  * 
@@ -46,6 +50,14 @@ public class Partitioning {
     
     System.out.println("3. 채식/비채식별 최대 칼로리 요리:");
     System.out.println(mostCaloricPartitionedByVegetarian());
+    System.out.println();
+
+    System.out.println("4. 비트맵 인덱스로 분할:");
+    System.out.println(partitionByVegetarianWithBitmapIndex());
+    System.out.println();
+
+    System.out.println("5. 채식/비채식별 칼로리 상위 3개 요리:");
+    System.out.println(topCaloricPartitionedByVegetarian(3));
   }
 
   // ==================================================
@@ -166,6 +178,55 @@ public class Partitioning {
         );
   }
 
+  // ==================================================
+  // 4. 비트맵 인덱스 분할
+  // ==================================================
+  /**
+   * BitmapIndex (chapter05)
+   *
+   * partitioningBy와 비교:
+   * - partitioningBy: 분할할 때마다 menu 전체를 순회하며 predicate 호출
+   * - 비트맵: 채식 행 집합을 한 번 구축한 뒤
+   *   true  = vegetarian
+   *   false = not(vegetarian)  ← 비트맵 연산, 요소를 읽지 않음
+   *
+   * 결과는 partitionByVegeterian과 같음 (두 키 모두 항상 존재, 원래 순서 유지)
+   */
+  private static Map<Boolean, List<Dish>> partitionByVegetarianWithBitmapIndex() {
+    BitmapIndex<Dish> index = new BitmapIndex<>(menu);
+    CompressedBitmap vegetarian = index.bitmapOf(Dish::isVegetarian);
+
+    Map<Boolean, List<Dish>> result = new HashMap<>();
+    result.put(false, index.select(index.not(vegetarian)));
+    result.put(true, index.select(vegetarian));
+    return result;
+  }
+
+  // ==================================================
+  // 5. 분할 + 상위 N개
+  // ==================================================
+  /**
+   * partitioningBy + TopNCollectors.topN
+   *
+   * 3번(maxBy)의 상위 N개 버전
+   * - 분할마다 크기 n의 힙만 유지 (분할의 모든 요소를 보관하지 않음)
+   *
+   * 결과 (n = 3):
+   * {
+   *   false=[pork, beef, salmon],
+   *   true=[pizza, french fries, rice]
+   * }
+   */
+  private static Map<Boolean, List<Dish>> topCaloricPartitionedByVegetarian(int n) {
+    return menu.stream()
+        .collect(
+            partitioningBy(
+                Dish::isVegetarian,
+                TopNCollectors.topN(n, comparingInt(Dish::getCalories))
+            )
+        );
+  }
+
 }
 
 /**
@@ -208,4 +269,10 @@ public class Partitioning {
  * 
  * 4. 분할 + 최대값:
  *    partitioningBy(predicate, collectingAndThen(maxBy(), Optional::get))
+ * 
+ * 5. 같은 조건으로 반복 분할:
+ *    BitmapIndex.bitmapOf(predicate) → 비트맵, not(비트맵)
+ * 
+ * 6. 분할 + 상위 N개:
+ *    partitioningBy(predicate, TopNCollectors.topN(n, comparator))
  */
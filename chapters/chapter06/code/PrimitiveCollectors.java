@@ -0,0 +1,226 @@
+package chapter06.code;
+
+import static chapter06.code.Dish.menu;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.summingInt;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * 기본형 특화 컬렉터 모음
+ *
+ * 문제:
+ * - ToListCollector는 객체용 Collector 계약만 보여줌
+ * - groupingBy(k, counting()), groupingBy(k, summingInt(...))는
+ *   키(Integer)와 값(Long, Integer)을 모두 박싱
+ * - IntStream.boxed().collect(toList())는 요소마다 Integer 생성
+ *
+ * 해결:
+ * - 누적 컨테이너를 기본형 배열/맵으로 교체
+ *   IntList, LongList  : int[] / long[] 버퍼
+ *   IntLongMap         : int 키 → long 값 (오픈 어드레싱)
+ * - IntCollector: IntStream.collect(supplier, ObjIntConsumer, BiConsumer) 계약을
+ *   하나로 묶고, Stream.collect용 Collector로 변환하는 어댑터 제공
+ *
+ * 학습 목표:
+ * 1. Collector의 누적 컨테이너가 할당량을 결정한다는 점 이해
+ * 2. IntStream.collect의 세 인수 형태 활용
+ * 3. 같은 로직을 IntStream과 Stream<T> 양쪽에서 재사용하는 어댑터 패턴
+ *
+ * 할당 비교는 PrimitiveCollectorsBenchmark를 -prof gc로 실행해 확인
+ */
+public class PrimitiveCollectors {
+
+  private PrimitiveCollectors() {
+  }
+
+  public static void main(String... args) {
+    System.out.println("=== 기본형 특화 컬렉터 ===\n");
+
+    System.out.println("1. IntStream → IntList:");
+    System.out.println(toIntList().collect(IntStream.rangeClosed(1, 10).filter(i -> i % 2 == 0)));
+    System.out.println();
+
+    System.out.println("2. LongStream → LongList:");
+    System.out.println(toLongList(LongStream.iterate(1L, i -> i * 10).limit(5)));
+    System.out.println();
+
+    System.out.println("3. Stream<Dish> → IntList (칼로리):");
+    System.out.println(menu.stream().collect(toIntList().mapping(Dish::getCalories)));
+    System.out.println();
+
+    System.out.println("4. 칼로리 100단위 구간별 개수:");
+    System.out.println("  groupingBy : " + menu.stream()
+        .collect(groupingBy(d -> d.getCalories() / 100, counting())));
+    System.out.println("  IntLongMap : " + menu.stream()
+        .collect(countingByInt(d -> d.getCalories() / 100)));
+    System.out.println();
+
+    System.out.println("5. 칼로리 구간별 총 칼로리:");
+    System.out.println("  groupingBy : " + menu.stream()
+        .collect(groupingBy(d -> d.getCalories() / 100, summingInt(Dish::getCalories))));
+    System.out.println("  IntLongMap : " + menu.stream()
+        .collect(summingByInt(d -> d.getCalories() / 100, Dish::getCalories)));
+    System.out.println();
+
+    System.out.println("6. IntStream 값별 빈도 (병렬):");
+    System.out.println(countingInts().collect(IntStream.range(0, 1_000).map(i -> i % 7).parallel()));
+  }
+
+  // ==================================================
+  // 1. IntCollector - IntStream용 컬렉터 계약
+  // ==================================================
+  /**
+   * IntStream.collect(Supplier, ObjIntConsumer, BiConsumer)를 위한 컬렉터
+   *
+   * Collector<T, A, R>와의 차이:
+   * - accumulator가 ObjIntConsumer → int를 박싱하지 않음
+   * - combiner가 BiConsumer → 오른쪽을 왼쪽에 병합 (IntStream.collect 규약)
+   *
+   * 어댑터:
+   * - collect(IntStream)    : IntStream에 직접 적용
+   * - mapping(ToIntFunction): Stream<T>.collect용 Collector로 변환
+   * - boxed()               : Stream<Integer>.collect용 Collector로 변환
+   */
+  public interface IntCollector<A, R> {
+
+    Supplier<A> supplier();
+
+    ObjIntConsumer<A> accumulator();
+
+    BiConsumer<A, A> combiner();
+
+    Function<A, R> finisher();
+
+    default R collect(IntStream stream) {
+      return finisher().apply(stream.collect(supplier(), accumulator(), combiner()));
+    }
+
+    default <T> Collector<T, A, R> mapping(ToIntFunction<? super T> mapper) {
+      ObjIntConsumer<A> accumulator = accumulator();
+      BiConsumer<A, A> combiner = combiner();
+      return Collector.of(
+          supplier(),
+          (container, item) -> accumulator.accept(container, mapper.applyAsInt(item)),
+          (left, right) -> {
+            combiner.accept(left, right);
+            return left;
+          },
+          finisher());
+    }
+
+    default Collector<Integer, A, R> boxed() {
+      return mapping(Integer::intValue);
+    }
+
+    static <A> IntCollector<A, A> of(Supplier<A> supplier, ObjIntConsumer<A> accumulator,
+        BiConsumer<A, A> combiner) {
+      return of(supplier, accumulator, combiner, Function.identity());
+    }
+
+    static <A, R> IntCollector<A, R> of(Supplier<A> supplier, ObjIntConsumer<A> accumulator,
+        BiConsumer<A, A> combiner, Function<A, R> finisher) {
+      return new IntCollector<A, R>() {
+        @Override
+        public Supplier<A> supplier() {
+          return supplier;
+        }
+
+        @Override
+        public ObjIntConsumer<A> accumulator() {
+          return accumulator;
+        }
+
+        @Override
+        public BiConsumer<A, A> combiner() {
+          return combiner;
+        }
+
+        @Override
+        public Function<A, R> finisher() {
+          return finisher;
+        }
+      };
+    }
+
+  }
+
+  // ==================================================
+  // 2. 기본형 리스트로 수집
+  // ==================================================
+  /**
+   * IntStream → IntList
+   *
+   * boxed().collect(toList())와 비교:
+   * - toList: 요소마다 Integer 객체 + ArrayList 참조 배열
+   * - toIntList: int[] 버퍼 하나 (증가 시에만 복사)
+   */
+  public static IntCollector<IntList, IntList> toIntList() {
+    return IntCollector.of(IntList::new, IntList::add, IntList::addAll);
+  }
+
+  /**
+   * LongStream → LongList
+   *
+   * LongStream.collect도 세 인수 형태를 지원하므로 그대로 위임
+   */
+  public static LongList toLongList(LongStream stream) {
+    return stream.collect(LongList::new, LongList::add, LongList::addAll);
+  }
+
+  // ==================================================
+  // 3. int 키 그룹화 - 개수
+  // ==================================================
+  /**
+   * IntStream 값별 빈도
+   *
+   * 예시:
+   * [1, 2, 2, 3, 3, 3] → {1=1, 2=2, 3=3}
+   */
+  public static IntCollector<IntLongMap, IntLongMap> countingInts() {
+    return IntCollector.of(IntLongMap::new, IntLongMap::increment, IntLongMap::addAll);
+  }
+
+  /**
+   * groupingBy(intKey, counting())의 기본형 버전
+   *
+   * 동작:
+   * - keyMapper로 int 키 추출 (박싱 없음)
+   * - IntLongMap에서 해당 키의 카운트 증가
+   *
+   * 결과 타입:
+   * - groupingBy: Map<Integer, Long> (키/값 모두 객체)
+   * - countingByInt: IntLongMap (기본형 배열)
+   */
+  public static <T> Collector<T, IntLongMap, IntLongMap> countingByInt(ToIntFunction<? super T> keyMapper) {
+    return countingInts().mapping(keyMapper);
+  }
+
+  // ==================================================
+  // 4. int 키 그룹화 - 합계
+  // ==================================================
+  /**
+   * groupingBy(intKey, summingInt(valueMapper))의 기본형 버전
+   *
+   * 합계는 long으로 누적 → 큰 데이터셋에서도 int 오버플로 없음
+   */
+  public static <T> Collector<T, IntLongMap, IntLongMap> summingByInt(
+      ToIntFunction<? super T> keyMapper, ToIntFunction<? super T> valueMapper) {
+    return Collector.of(
+        IntLongMap::new,
+        (map, item) -> map.addTo(keyMapper.applyAsInt(item), valueMapper.applyAsInt(item)),
+        (left, right) -> {
+          left.addAll(right);
+          return left;
+        });
+  }
+
+}
@@ -0,0 +1,78 @@
+package chapter06.code;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 박싱 컬렉터 vs 기본형 컬렉터 벤치마크
+ *
+ * 비교 대상:
+ * - boxed().collect(toList())          vs toIntList()
+ * - groupingBy(key, counting())        vs countingInts()
+ *
+ * 할당량 확인:
+ * - build.gradle의 jmh 블록에 profilers = ['gc'] 추가 후 ./gradlew jmh
+ * - gc.alloc.rate.norm (B/op) 열을 비교
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Measurement(iterations = 2)
+@Warmup(iterations = 3)
+public class PrimitiveCollectorsBenchmark {
+
+  private static final int N = 10_000_000;
+
+  /**
+   * 그룹 키 개수 (칼로리 구간, 연도처럼 적은 수의 int 키)
+   */
+  private static final int KEYS = 1_000;
+
+  @Benchmark
+  public List<Integer> boxedToList() {
+    return IntStream.range(0, N).boxed().collect(toList());
+  }
+
+  @Benchmark
+  public IntList primitiveToList() {
+    return PrimitiveCollectors.toIntList().collect(IntStream.range(0, N));
+  }
+
+  @Benchmark
+  public Map<Integer, Long> boxedCounting() {
+    return IntStream.range(0, N).boxed().collect(groupingBy(i -> i % KEYS, counting()));
+  }
+
+  @Benchmark
+  public IntLongMap primitiveCounting() {
+    return PrimitiveCollectors.countingInts().collect(IntStream.range(0, N).map(i -> i % KEYS));
+  }
+
+  @Benchmark
+  public Map<Integer, Long> parallelBoxedCounting() {
+    return IntStream.range(0, N).parallel().boxed().collect(groupingBy(i -> i % KEYS, counting()));
+  }
+
+  @Benchmark
+  public IntLongMap parallelPrimitiveCounting() {
+    return PrimitiveCollectors.countingInts().collect(IntStream.range(0, N).parallel().map(i -> i % KEYS));
+  }
+
+}
@@ -0,0 +1,199 @@
+package chapter06.code;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.LongConsumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.LongStream;
+
+/**
+ * 병합 가능한 분위수(quantile) 스케치
+ *
+ * 정확한 p99를 구하려면:
+ * - 모든 값을 저장하고 정렬 → 메모리 O(n), 시간 O(n log n)
+ * - 수억 개에서는 불가능
+ *
+ * 로그 버킷 스케치 (DDSketch 방식):
+ * - gamma = (1 + α) / (1 - α)   (α = 상대 오차, 예: 0.01 = 1%)
+ * - 값 x는 버킷 i = ceil(log_gamma(x))에 카운트만 증가
+ * - 버킷 i의 대표값 2 × gamma^i / (gamma + 1)은
+ *   버킷 안의 어떤 값과도 상대 오차 α 이내
+ *
+ * 보장:
+ * - 모든 분위수의 상대 오차 ≤ α
+ * - 버킷 수 ≤ log_gamma(Long.MAX_VALUE) + 1 (α = 1%면 약 2200개, 약 17KB)
+ *   → 데이터 개수와 무관한 메모리
+ * - 병합 = 버킷별 카운트 덧셈 → 병렬 스트림에서 순서와 무관하게 같은 결과
+ *
+ * 제약:
+ * - 0 이상의 값만 허용 (지연 시간, 금액, 칼로리 같은 데이터)
+ * - 0은 별도 카운터
+ * - 대표값을 long으로 반올림하므로 아주 작은 값(수십 이하)에서는 ±0.5의 추가 오차
+ *
+ * 사용:
+ * - Stream<T>   : stream.collect(QuantileSketch.toSketch(mapper, 0.01))
+ * - LongStream  : longStream.collect(() -> new QuantileSketch(0.01), QuantileSketch::accept, QuantileSketch::merge)
+ * - IntStream   : intStream.asLongStream()으로 바꾼 뒤 위와 동일
+ */
+public class QuantileSketch implements LongConsumer {
+
+  private final double relativeAccuracy;
+  private final double gamma;
+  private final double logGamma;
+
+  private long[] counts = new long[64];
+  private long zeroCount;
+  private long count;
+  private long min = Long.MAX_VALUE;
+  private long max = Long.MIN_VALUE;
+
+  public QuantileSketch(double relativeAccuracy) {
+    if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+      throw new IllegalArgumentException("Relative accuracy must be in (0, 1): " + relativeAccuracy);
+    }
+    this.relativeAccuracy = relativeAccuracy;
+    this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+    this.logGamma = Math.log(gamma);
+  }
+
+  public static void main(String... args) {
+    int n = 10_000_000;
+    Random random = new Random(42);
+    long[] values = new long[n];
+    for (int i = 0; i < n; i++) {
+      // 지연 시간처럼 꼬리가 긴 분포 (로그 정규)
+      values[i] = (long) Math.exp(8 + 1.5 * random.nextGaussian());
+    }
+
+    QuantileSketch sketch = LongStream.of(values).parallel()
+        .collect(() -> new QuantileSketch(0.01), QuantileSketch::accept, QuantileSketch::merge);
+
+    long[] sorted = values.clone();
+    Arrays.sort(sorted);
+    for (double q : new double[] { 0.5, 0.99, 0.999 }) {
+      long exact = sorted[(int) Math.round(q * (n - 1))];
+      long estimate = sketch.quantile(q);
+      System.out.printf("p%-5s exact=%-10d sketch=%-10d error=%.3f%%%n",
+          q * 100, exact, estimate, 100.0 * Math.abs(estimate - exact) / exact);
+    }
+
+    QuantileSketch transactionValues = GroupingTransactions.transactions.stream()
+        .collect(toSketch(t -> (long) t.getValue(), 0.01));
+    System.out.println("거래 금액 (GroupingTransactions): " + transactionValues);
+  }
+
+  /**
+   * Stream<T>용 컬렉터
+   */
+  public static <T> Collector<T, ?, QuantileSketch> toSketch(ToLongFunction<? super T> mapper,
+      double relativeAccuracy) {
+    return Collector.of(
+        () -> new QuantileSketch(relativeAccuracy),
+        (sketch, item) -> sketch.accept(mapper.applyAsLong(item)),
+        (left, right) -> {
+          left.merge(right);
+          return left;
+        },
+        Collector.Characteristics.IDENTITY_FINISH,
+        Collector.Characteristics.UNORDERED);
+  }
+
+  @Override
+  public void accept(long value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Negative values are not supported: " + value);
+    }
+    count++;
+    min = Math.min(min, value);
+    max = Math.max(max, value);
+    if (value == 0) {
+      zeroCount++;
+      return;
+    }
+    int index = indexOf(value);
+    if (index >= counts.length) {
+      counts = Arrays.copyOf(counts, Math.max(counts.length * 2, index + 1));
+    }
+    counts[index]++;
+  }
+
+  /**
+   * other의 카운트를 이 스케치에 더함
+   */
+  public void merge(QuantileSketch other) {
+    if (other.gamma != gamma) {
+      throw new IllegalArgumentException("Cannot merge sketches with different accuracy");
+    }
+    if (other.counts.length > counts.length) {
+      counts = Arrays.copyOf(counts, other.counts.length);
+    }
+    for (int i = 0; i < other.counts.length; i++) {
+      counts[i] += other.counts[i];
+    }
+    zeroCount += other.zeroCount;
+    count += other.count;
+    min = Math.min(min, other.min);
+    max = Math.max(max, other.max);
+  }
+
+  /**
+   * q 분위수 (0 ≤ q ≤ 1)
+   *
+   * 동작:
+   * 1. 목표 순위 rank = q × (count - 1)
+   * 2. 0 카운터 → 버킷 0, 1, 2, ... 순서로 누적 카운트가 rank를 넘는 버킷 찾기
+   * 3. 그 버킷의 대표값 반환 (실제 min/max 범위로 제한)
+   */
+  public long quantile(double q) {
+    if (q < 0 || q > 1) {
+      throw new IllegalArgumentException("Quantile must be in [0, 1]: " + q);
+    }
+    if (count == 0) {
+      throw new IllegalStateException("Empty sketch");
+    }
+    long rank = (long) (q * (count - 1));
+    long seen = zeroCount;
+    if (rank < seen) {
+      return 0;
+    }
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (rank < seen) {
+        long value = Math.round(2 * Math.pow(gamma, i) / (gamma + 1));
+        return Math.max(min, Math.min(max, value));
+      }
+    }
+    return max;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public long getMin() {
+    return min;
+  }
+
+  public long getMax() {
+    return max;
+  }
+
+  public double getRelativeAccuracy() {
+    return relativeAccuracy;
+  }
+
+  private int indexOf(long value) {
+    return (int) Math.ceil(Math.log(value) / logGamma);
+  }
+
+  @Override
+  public String toString() {
+    if (count == 0) {
+      return "QuantileSketch{count=0}";
+    }
+    return String.format("QuantileSketch{count=%d, min=%d, p50=%d, p99=%d, p999=%d, max=%d}",
+        count, min, quantile(0.5), quantile(0.99), quantile(0.999), max);
+  }
+
+}
@@ -0,0 +1,417 @@
+package chapter06.code;
+
+import static chapter06.code.Dish.menu;
+import static java.util.stream.Collectors.joining;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 결과 문자열을 만들지 않고 바로 출력 대상으로 쓰는 joining
+ *
+ * Collectors.joining의 동작:
+ * - 내부 StringBuilder에 모두 이어 붙인 뒤 String 하나로 반환
+ * - 백만 행 보고서 → 수십~수백 MB 문자열을 메모리에 통째로 보관
+ * - StringBuilder가 자랄 때마다 배열 복사 + 마지막 toString 복사
+ *
+ * StreamingJoining:
+ * - joinTo(stream, Appendable): Writer, StringBuilder, PrintStream 등에 요소마다 바로 append
+ *   → 메모리 사용량은 출력 대상의 버퍼 크기로 제한 (BufferedWriter 권장)
+ * - joinTo(stream, ByteBuffer, charset, drain): 고정 크기 ByteBuffer에 인코딩,
+ *   가득 차면 drain(FileChannel::write 등)으로 비움
+ * - joinPresized: 첫 번째 순회로 정확한 길이를 계산 → 한 번만 할당, 재할당 없음
+ *
+ * 제약:
+ * - 출력 대상이 하나이므로 순차 스트림 전용
+ *   - joinTo(stream, ...): 출력하기 전에 isParallel()을 확인해 병렬 스트림이면 바로 예외
+ *   - joiningTo(...) Collector: 출력 대상이 정해진 일회용, supplier가 두 번째로 호출되면 예외
+ *     (병렬 스트림이면 두 번째 구간에서 실패하지만 앞 구간이 이미 출력했을 수 있음 → joinTo 권장)
+ * - IOException은 UncheckedIOException으로 감싸서 던짐
+ */
+public final class StreamingJoining {
+
+  private StreamingJoining() {
+  }
+
+  public static void main(String... args) throws IOException {
+    System.out.println("joining           : " + menu.stream().map(Dish::getName).collect(joining(", ")));
+    System.out.println("joinTo(sb)        : " + joinTo(menu.stream().map(Dish::getName), new StringBuilder(), ", "));
+    System.out.println("joinPresized      : " + joinPresized(menu, Dish::getName, ", "));
+    List<String> names = List.of("pork", "카레", "🍣");
+    ByteBuffer utf8 = toUtf8Buffer(names, ", ");
+    System.out.println("toUtf8Buffer      : " + utf8.remaining() + " bytes = "
+        + String.join(", ", names).getBytes(StandardCharsets.UTF_8).length + " bytes (getBytes)");
+    try {
+      joinTo(menu.parallelStream().map(Dish::getName), new StringBuilder(), ", ");
+    }
+    catch (IllegalArgumentException e) {
+      System.out.println("joinTo(parallel)  : " + e.getMessage());
+    }
+    System.out.println();
+
+    // 백만 행 보고서: 문자열 전체를 만들지 않고 파일로 바로 출력
+    int rows = 1_000_000;
+    Path report = Files.createTempFile("report", ".csv");
+    try {
+      try (Writer writer = Files.newBufferedWriter(report, StandardCharsets.UTF_8)) {
+        joinTo(IntStream.range(0, rows).mapToObj(StreamingJoining::reportRow),
+            writer, "\n", "name,calories\n", "\n");
+      }
+      System.out.println("Writer     → " + Files.size(report) + " bytes");
+
+      try (FileChannel channel = FileChannel.open(report, StandardOpenOption.WRITE,
+          StandardOpenOption.TRUNCATE_EXISTING)) {
+        long bytes = joinTo(IntStream.range(0, rows).mapToObj(StreamingJoining::reportRow),
+            ByteBuffer.allocateDirect(64 * 1024), "\n", StandardCharsets.UTF_8,
+            buffer -> write(channel, buffer));
+        System.out.println("ByteBuffer → " + bytes + " bytes (64KB 버퍼 하나만 사용)");
+      }
+    }
+    finally {
+      Files.deleteIfExists(report);
+    }
+  }
+
+  private static String reportRow(int i) {
+    Dish dish = menu.get(i % menu.size());
+    return dish.getName() + "," + dish.getCalories();
+  }
+
+  private static void write(FileChannel channel, ByteBuffer buffer) {
+    try {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  // ==================================================
+  // Appendable (Writer, StringBuilder, PrintStream ...)
+  // ==================================================
+  public static <A extends Appendable> A joinTo(Stream<? extends CharSequence> items, A out,
+      CharSequence delimiter) {
+    return joinTo(items, out, delimiter, "", "");
+  }
+
+  /**
+   * items를 out에 출력하고 out을 반환
+   *
+   * @throws IllegalArgumentException items가 병렬 스트림이면 (아무것도 출력하지 않음)
+   */
+  public static <A extends Appendable> A joinTo(Stream<? extends CharSequence> items, A out,
+      CharSequence delimiter, CharSequence prefix, CharSequence suffix) {
+    return requireSequential(items).collect(joiningTo(out, delimiter, prefix, suffix));
+  }
+
+  public static <A extends Appendable> Collector<CharSequence, ?, A> joiningTo(A out, CharSequence delimiter) {
+    return joiningTo(out, delimiter, "", "");
+  }
+
+  /**
+   * joining(delimiter, prefix, suffix)와 같은 형식으로 out에 출력하고 out을 반환
+   *
+   * 요소 사이에만 delimiter를 쓰므로 출력 내용은 joining의 결과와 같음
+   * 반환된 Collector는 한 번만 사용 가능 (순차 스트림 전용, 스트림을 직접 넘기려면 joinTo)
+   */
+  public static <A extends Appendable> Collector<CharSequence, ?, A> joiningTo(A out, CharSequence delimiter,
+      CharSequence prefix, CharSequence suffix) {
+    return Collector.<CharSequence, AppendableSink<A>, A>of(
+        once(() -> new AppendableSink<>(out, delimiter, prefix)),
+        AppendableSink::add,
+        StreamingJoining::sequentialOnly,
+        sink -> sink.finish(suffix));
+  }
+
+  private static final class AppendableSink<A extends Appendable> {
+
+    private final A out;
+    private final CharSequence delimiter;
+    private boolean first = true;
+
+    AppendableSink(A out, CharSequence delimiter, CharSequence prefix) {
+      this.out = out;
+      this.delimiter = delimiter;
+      append(prefix);
+    }
+
+    void add(CharSequence item) {
+      if (first) {
+        first = false;
+      }
+      else {
+        append(delimiter);
+      }
+      append(item);
+    }
+
+    A finish(CharSequence suffix) {
+      append(suffix);
+      return out;
+    }
+
+    private void append(CharSequence text) {
+      try {
+        out.append(text);
+      }
+      catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+  }
+
+  // ==================================================
+  // ByteBuffer (고정 크기 버퍼 + drain)
+  // ==================================================
+  /**
+   * 요소를 charset으로 인코딩해 buffer에 쓰고, 가득 차면 drain으로 넘김
+   *
+   * - drain은 flip된 buffer를 받아 내용을 소비 (예: channel.write)
+   * - 다 소비하지 못한 바이트는 compact로 남겨 두었다가 다음에 다시 넘김
+   * - 마지막 남은 바이트도 drain으로 넘긴 뒤 소비된 총 바이트 수 반환
+   *
+   * @throws IllegalArgumentException items가 병렬 스트림이면 (아무것도 출력하지 않음)
+   */
+  public static long joinTo(Stream<? extends CharSequence> items, ByteBuffer buffer, CharSequence delimiter,
+      Charset charset, Consumer<ByteBuffer> drain) {
+    return requireSequential(items).collect(joiningTo(buffer, delimiter, charset, drain));
+  }
+
+  /**
+   * joinTo(stream, buffer, ...)의 Collector 형태 (한 번만 사용 가능, 순차 스트림 전용)
+   */
+  public static Collector<CharSequence, ?, Long> joiningTo(ByteBuffer buffer, CharSequence delimiter,
+      Charset charset, Consumer<ByteBuffer> drain) {
+    return Collector.<CharSequence, ByteSink, Long>of(
+        once(() -> new ByteSink(buffer, delimiter, charset, drain)),
+        ByteSink::add,
+        StreamingJoining::sequentialOnly,
+        ByteSink::finish);
+  }
+
+  private static final class ByteSink {
+
+    private final ByteBuffer buffer;
+    private final CharSequence delimiter;
+    private final CharsetEncoder encoder;
+    private final Consumer<ByteBuffer> drain;
+    private boolean first = true;
+    private long written;
+
+    ByteSink(ByteBuffer buffer, CharSequence delimiter, Charset charset, Consumer<ByteBuffer> drain) {
+      this.buffer = buffer;
+      this.delimiter = delimiter;
+      this.encoder = charset.newEncoder()
+          .onMalformedInput(CodingErrorAction.REPLACE)
+          .onUnmappableCharacter(CodingErrorAction.REPLACE);
+      this.drain = drain;
+    }
+
+    void add(CharSequence item) {
+      if (first) {
+        first = false;
+      }
+      else {
+        encode(delimiter);
+      }
+      encode(item);
+    }
+
+    /**
+     * drain이 일부만 소비할 수 있으므로 버퍼가 빌 때까지 반복
+     */
+    Long finish() {
+      while (buffer.position() > 0) {
+        if (drain() == 0) {
+          throw new IllegalStateException("Drain did not consume any of the remaining bytes");
+        }
+      }
+      return written;
+    }
+
+    /**
+     * 요소 하나를 완전한 입력으로 인코딩 (서로게이트 쌍이 요소 경계에서 잘리지 않음)
+     */
+    private void encode(CharSequence text) {
+      CharBuffer in = CharBuffer.wrap(text);
+      encoder.reset();
+      CoderResult result;
+      do {
+        result = encoder.encode(in, buffer, true);
+        check(result);
+      } while (result.isOverflow());
+      do {
+        result = encoder.flush(buffer);
+        check(result);
+      } while (result.isOverflow());
+    }
+
+    private void check(CoderResult result) {
+      if (result.isOverflow()) {
+        drain();
+      }
+      else if (result.isError()) {
+        try {
+          result.throwException();
+        }
+        catch (CharacterCodingException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+    }
+
+    /**
+     * @return 이번에 소비된 바이트 수
+     */
+    private int drain() {
+      buffer.flip();
+      int before = buffer.remaining();
+      drain.accept(buffer);
+      int consumed = before - buffer.remaining();
+      written += consumed;
+      buffer.compact();
+      if (consumed == 0 && !buffer.hasRemaining()) {
+        throw new IllegalStateException("Drain did not consume any bytes from a full buffer");
+      }
+      return consumed;
+    }
+
+  }
+
+  private static <S extends Stream<?>> S requireSequential(S items) {
+    if (items.isParallel()) {
+      throw new IllegalArgumentException("Streaming joining writes to a single sink; use a sequential stream");
+    }
+    return items;
+  }
+
+  /**
+   * 출력 대상이 하나이므로 누적 객체도 하나만 허용
+   * → 병렬 스트림의 두 번째 구간이나 Collector 재사용을 출력 도중이 아니라 시작 시점에 거부
+   */
+  private static <S> Supplier<S> once(Supplier<S> supplier) {
+    AtomicBoolean used = new AtomicBoolean();
+    return () -> {
+      if (!used.compareAndSet(false, true)) {
+        throw new IllegalStateException("Streaming joining collector supports a single sequential use");
+      }
+      return supplier.get();
+    };
+  }
+
+  private static <S> S sequentialOnly(S left, S right) {
+    throw new IllegalStateException("Streaming joining writes to a single sink; use a sequential stream");
+  }
+
+  // ==================================================
+  // 정확한 크기로 한 번만 할당
+  // ==================================================
+  /**
+   * 첫 번째 순회로 전체 길이를 구하고, 그 크기의 StringBuilder에 한 번만 복사
+   */
+  public static String joinPresized(List<? extends CharSequence> items, CharSequence delimiter) {
+    return joinPresized(items, Function.identity(), delimiter);
+  }
+
+  /**
+   * mapper는 두 번 호출되므로 getter처럼 가볍고 항상 같은 값을 반환해야 함
+   */
+  public static <T> String joinPresized(Collection<? extends T> items,
+      Function<? super T, ? extends CharSequence> mapper, CharSequence delimiter) {
+    if (items.isEmpty()) {
+      return "";
+    }
+    long length = (long) delimiter.length() * (items.size() - 1);
+    for (T item : items) {
+      length += mapper.apply(item).length();
+    }
+    if (length > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException("Joined length " + length + " exceeds the maximum String size");
+    }
+    StringBuilder sb = new StringBuilder((int) length);
+    boolean first = true;
+    for (T item : items) {
+      if (first) {
+        first = false;
+      }
+      else {
+        sb.append(delimiter);
+      }
+      sb.append(mapper.apply(item));
+    }
+    return sb.toString();
+  }
+
+  /**
+   * UTF-8 바이트 길이를 먼저 계산해 정확한 크기의 ByteBuffer에 인코딩 (flip된 상태로 반환)
+   */
+  public static ByteBuffer toUtf8Buffer(List<? extends CharSequence> items, CharSequence delimiter) {
+    long length = items.isEmpty() ? 0 : (long) utf8Length(delimiter) * (items.size() - 1);
+    for (CharSequence item : items) {
+      length += utf8Length(item);
+    }
+    if (length > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Encoded length " + length + " exceeds the maximum buffer size");
+    }
+    ByteBuffer buffer = ByteBuffer.allocate((int) length);
+    ByteSink sink = new ByteSink(buffer, delimiter, StandardCharsets.UTF_8, b -> {
+      throw new IllegalStateException("Presized buffer overflowed");
+    });
+    items.forEach(sink::add);
+    return buffer.flip();
+  }
+
+  /**
+   * String.getBytes(UTF_8).length와 같은 값 (짝 없는 서로게이트는 '?' 1바이트)
+   */
+  static int utf8Length(CharSequence text) {
+    int length = 0;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c < 0x80) {
+        length += 1;
+      }
+      else if (c < 0x800) {
+        length += 2;
+      }
+      else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+          && Character.isLowSurrogate(text.charAt(i + 1))) {
+        length += 4;
+        i++;
+      }
+      else if (Character.isSurrogate(c)) {
+        length += 1;
+      }
+      else {
+        length += 3;
+      }
+    }
+    return length;
+  }
+
+}
@@ -48,6 +48,10 @@ public class Summarizing {
     System.out.println("\n요리 목록:");
     System.out.println("  공백 없이: " + getShortMenu());
     System.out.println("  쉼표 구분: " + getShortMenuCommaSeparated());
+    System.out.println("\n한 번의 순회로 모든 통계: " + calculateMenuStatisticsWithHistogram());
+    System.out.print("\n스트리밍 출력: ");
+    printShortMenuCommaSeparated();
+    System.out.println("정확한 크기로 연결: " + getShortMenuCommaSeparatedPresized());
   }
 
   // ==================================================
@@ -274,6 +278,63 @@ public class Summarizing {
     // 결과: "pork, beef, chicken, french fries, rice, ..."
   }
 
+  // ==================================================
+  // 9. 단일 패스 통계 + 히스토그램
+  // ==================================================
+  /**
+   * summarizingWithHistogram(ToIntFunction<T> mapper, lower, upper, buckets)
+   *
+   * 문제:
+   * - 1~6번을 모두 구하면 menu를 다섯 번 이상 순회
+   * - 데이터가 크고 캐시에 없으면 순회마다 메모리에서 다시 읽음
+   *
+   * 동작:
+   * - 한 번의 순회로 count, sum, min, max, 평균, 분산 수집
+   * - [0, 1000)을 100 kcal 단위 10개 구간으로 나눈 히스토그램 동시 수집
+   * - 병렬 스트림에서도 combine으로 정확히 병합
+   *
+   * 예시:
+   * histogram=[0, 1, 0, 1, 3, 2, 0, 1, 1, 0]
+   * → 100~199: 1개 (season fruit), 400~499: 3개 (chicken, prawns, salmon), ...
+   */
+  private static IntHistogramStatistics calculateMenuStatisticsWithHistogram() {
+    return menu.stream()
+        .collect(IntHistogramStatistics.summarizingWithHistogram(Dish::getCalories, 0, 1000, 10));
+  }
+
+  // ==================================================
+  // 10. 스트리밍 joining - 문자열 없이 바로 출력
+  // ==================================================
+  /**
+   * StreamingJoining.joinTo(stream, Appendable out, CharSequence delimiter)
+   *
+   * joining(", ")과 비교:
+   * - joining: 전체 문자열을 메모리에 만든 뒤 출력
+   * - joinTo: 요소마다 out에 바로 append → 결과 문자열 없음
+   *
+   * 출력 대상:
+   * - System.out, BufferedWriter, StringBuilder 등 Appendable
+   * - 고정 크기 ByteBuffer + drain (FileChannel 등)
+   *
+   * 주의: 출력 대상이 하나이므로 순차 스트림에서만 사용 (병렬 스트림은 출력 전에 예외)
+   */
+  private static void printShortMenuCommaSeparated() {
+    StreamingJoining.joinTo(menu.stream().map(Dish::getName), System.out, ", ", "", "\n");
+  }
+
+  /**
+   * StreamingJoining.joinPresized(items, mapper, delimiter)
+   *
+   * 동작:
+   * 1. 첫 번째 순회: 이름 길이 합 + 구분자 길이 × (n - 1)
+   * 2. 그 크기로 StringBuilder를 한 번만 할당 → 두 번째 순회로 채움
+   *
+   * joining은 StringBuilder가 16자에서 시작해 두 배씩 자라며 복사를 반복
+   */
+  private static String getShortMenuCommaSeparatedPresized() {
+    return StreamingJoining.joinPresized(menu, Dish::getName, ", ");
+  }
+
 }
 
 /**
@@ -288,6 +349,9 @@ public class Summarizing {
  * │ summarizingInt() │ IntSummary..   │ 통계 (한 번에)   │
  * │ joining()        │ String         │ 문자열 연결      │
  * │ reducing()       │ Optional<T>/T  │ 범용 리듀싱      │
+ * │ summarizingWith  │ IntHistogram.. │ 통계 + 분산 +    │
+ * │   Histogram()    │                │ 히스토그램       │
+ * │ joiningTo()      │ Appendable     │ 바로 출력 연결   │
  * └──────────────────┴────────────────┴──────────────────┘
  * 
  * reducing의 세 가지 형태:
@@ -309,5 +373,6 @@ public class Summarizing {
  * - 평균 → averagingInt()
  * - 여러 통계 → summarizingInt()
  * - 문자열 연결 → joining()
+ * - 대용량 출력 → StreamingJoining.joinTo()
  * - 커스텀 리듀싱 → reducing()
  */
@@ -0,0 +1,58 @@
+package chapter06.code;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 리스트 수집 컬렉터 벤치마크 (병렬)
+ *
+ * 비교 대상:
+ * - ToListCollector       : ArrayList::new + addAll 병합 (단계마다 복사)
+ * - Collectors.toList()   : JDK 기본 구현
+ * - ChunkedListCollector  : 청크 연결 O(1) 병합 + 마지막에 한 번 복사
+ * - toChunkedView         : 복사 없이 읽기 전용 뷰
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = { "-Xms8G", "-Xmx8G" })
+@Measurement(iterations = 2)
+@Warmup(iterations = 3)
+public class ToListCollectorBenchmark {
+
+  private static final int N = 10_000_000;
+
+  @Benchmark
+  public List<Integer> toListCollector() {
+    return IntStream.range(0, N).boxed().parallel().collect(new ToListCollector<>());
+  }
+
+  @Benchmark
+  public List<Integer> collectorsToList() {
+    return IntStream.range(0, N).boxed().parallel().collect(toList());
+  }
+
+  @Benchmark
+  public List<Integer> chunkedList() {
+    return ChunkedListCollector.toList(IntStream.range(0, N).boxed().parallel());
+  }
+
+  @Benchmark
+  public List<Integer> chunkedView() {
+    return ChunkedListCollector.toChunkedView(IntStream.range(0, N).boxed().parallel());
+  }
+
+}
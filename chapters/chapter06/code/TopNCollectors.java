@@ -0,0 +1,355 @@
+package chapter06.code;
+
+import static chapter06.code.Dish.menu;
+import static java.util.Comparator.comparingDouble;
+import static java.util.Comparator.comparingInt;
+import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+
+import chapter06.code.GroupingTransactions.Transaction;
+
+/**
+ * 그룹별 상위 N개 컬렉터 (크기 제한 힙)
+ *
+ * maxBy는 그룹마다 1개만 구함
+ * 상위 N개를 구하는 흔한 방법:
+ *   groupingBy(c, collectingAndThen(toList(), list -> 정렬 후 앞의 N개))
+ * - 모든 요소를 그룹 리스트에 보관 → 메모리 O(행 수)
+ * - 그룹마다 정렬 → O(n log n)
+ *
+ * 크기 제한 힙:
+ * - 그룹마다 크기 N의 최소 힙 (루트 = 지금까지의 상위 N개 중 가장 작은 값)
+ * - 새 요소가 루트보다 크면 루트를 교체하고 아래로 내림 → O(log N)
+ * - 루트보다 작거나 같으면 비교 한 번으로 버림 (대부분의 요소)
+ * - 메모리 O(그룹 수 × N)
+ * - 병렬 병합: 오른쪽 힙의 요소를 왼쪽 힙에 offer (최대 N개)
+ *
+ * 두 가지 형태:
+ * 1. topN(n, comparator)
+ *    - 다운스트림 컬렉터 → groupingBy / partitioningBy와 조합
+ * 2. topNByIntKey(groupKey, n, score)
+ *    - 그룹 키와 점수가 int인 기본형 빠른 경로
+ *    - int 키 오픈 어드레싱 테이블 + int 점수 배열 힙 → 박싱/Comparator 호출 없음
+ *
+ * 동점: 이미 힙에 있는 요소를 유지 (같은 점수로는 루트를 교체하지 않음)
+ */
+public final class TopNCollectors {
+
+  private TopNCollectors() {
+  }
+
+  public static void main(String... args) {
+    System.out.println("타입별 칼로리 상위 2개       : " + menu.stream()
+        .collect(groupingBy(Dish::getType, topN(2, comparingInt(Dish::getCalories)))));
+    System.out.println("타입별 칼로리 상위 2개 (정렬): " + menu.stream()
+        .collect(groupingBy(Dish::getType, collectingAndThen(toList(), list -> {
+          list.sort(comparingInt(Dish::getCalories).reversed());
+          return list.subList(0, Math.min(2, list.size()));
+        }))));
+    System.out.println();
+
+    List<Transaction> large = ParallelGroupingEngine.randomTransactions(5_000_000, 42);
+    Map<Integer, List<Transaction>> fast = large.parallelStream()
+        .collect(topNByIntKey(t -> t.getCurrency().ordinal(), 3, t -> (int) t.getValue()));
+    Map<Integer, List<Transaction>> generic = large.parallelStream()
+        .collect(groupingBy(t -> t.getCurrency().ordinal(), TreeMap::new,
+            topN(3, comparingDouble(Transaction::getValue))));
+    System.out.println("통화 ordinal별 금액 상위 3개 (기본형): " + fast);
+    System.out.println("통화 ordinal별 금액 상위 3개 (topN) : " + generic);
+  }
+
+  // ==================================================
+  // 1. Comparator 기반 (다운스트림)
+  // ==================================================
+  /**
+   * comparator 기준 상위 n개 (큰 것부터 정렬된 List)
+   *
+   * 사용 예: groupingBy(Dish::getType, topN(3, comparingInt(Dish::getCalories)))
+   */
+  public static <T> Collector<T, ?, List<T>> topN(int n, Comparator<? super T> comparator) {
+    requirePositive(n);
+    return Collector.<T, BoundedHeap<T>, List<T>>of(
+        () -> new BoundedHeap<>(n, comparator),
+        BoundedHeap::offer,
+        BoundedHeap::merge,
+        BoundedHeap::toSortedList);
+  }
+
+  /**
+   * comparator 기준 최소 힙 (용량 n)
+   */
+  static final class BoundedHeap<T> {
+
+    private final Comparator<? super T> comparator;
+    private final Object[] heap;
+    private int size;
+
+    BoundedHeap(int capacity, Comparator<? super T> comparator) {
+      this.comparator = comparator;
+      this.heap = new Object[capacity];
+    }
+
+    void offer(T item) {
+      if (size < heap.length) {
+        heap[size] = item;
+        siftUp(size++);
+      }
+      else if (comparator.compare(item, at(0)) > 0) {
+        heap[0] = item;
+        siftDown(0);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    BoundedHeap<T> merge(BoundedHeap<T> other) {
+      for (int i = 0; i < other.size; i++) {
+        offer((T) other.heap[i]);
+      }
+      return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    List<T> toSortedList() {
+      T[] items = (T[]) Arrays.copyOf(heap, size);
+      Arrays.sort(items, comparator.reversed());
+      return new ArrayList<>(Arrays.asList(items));
+    }
+
+    @SuppressWarnings("unchecked")
+    private T at(int i) {
+      return (T) heap[i];
+    }
+
+    private void siftUp(int i) {
+      while (i > 0) {
+        int parent = (i - 1) >>> 1;
+        if (comparator.compare(at(i), at(parent)) >= 0) {
+          return;
+        }
+        swap(i, parent);
+        i = parent;
+      }
+    }
+
+    private void siftDown(int i) {
+      while (true) {
+        int left = 2 * i + 1;
+        if (left >= size) {
+          return;
+        }
+        int smallest = left + 1 < size && comparator.compare(at(left + 1), at(left)) < 0 ? left + 1 : left;
+        if (comparator.compare(at(smallest), at(i)) >= 0) {
+          return;
+        }
+        swap(i, smallest);
+        i = smallest;
+      }
+    }
+
+    private void swap(int i, int j) {
+      Object tmp = heap[i];
+      heap[i] = heap[j];
+      heap[j] = tmp;
+    }
+
+  }
+
+  // ==================================================
+  // 2. 기본형 빠른 경로 (int 그룹 키, int 점수)
+  // ==================================================
+  /**
+   * int 그룹 키별 int 점수 상위 n개
+   *
+   * 결과는 그룹 키 순서의 TreeMap, 값은 점수가 큰 것부터 정렬된 List
+   */
+  public static <T> Collector<T, ?, Map<Integer, List<T>>> topNByIntKey(ToIntFunction<? super T> groupKey,
+      int n, ToIntFunction<? super T> score) {
+    requirePositive(n);
+    return Collector.<T, IntKeyHeaps<T>, Map<Integer, List<T>>>of(
+        () -> new IntKeyHeaps<>(n),
+        (heaps, item) -> heaps.offer(groupKey.applyAsInt(item), score.applyAsInt(item), item),
+        IntKeyHeaps::merge,
+        IntKeyHeaps::toMap,
+        Collector.Characteristics.UNORDERED);
+  }
+
+  /**
+   * int 점수 최소 힙 (점수 배열과 요소 배열을 나란히 유지)
+   */
+  static final class IntScoreHeap {
+
+    private final int[] scores;
+    private final Object[] items;
+    private int size;
+
+    IntScoreHeap(int capacity) {
+      scores = new int[capacity];
+      items = new Object[capacity];
+    }
+
+    /**
+     * 힙이 가득 찼고 루트보다 크지 않은 점수는 요소를 보지 않고 버림
+     */
+    void offer(int score, Object item) {
+      if (size < scores.length) {
+        scores[size] = score;
+        items[size] = item;
+        siftUp(size++);
+      }
+      else if (score > scores[0]) {
+        scores[0] = score;
+        items[0] = item;
+        siftDown(0);
+      }
+    }
+
+    void merge(IntScoreHeap other) {
+      for (int i = 0; i < other.size; i++) {
+        offer(other.scores[i], other.items[i]);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> List<T> toSortedList() {
+      Integer[] order = new Integer[size];
+      for (int i = 0; i < size; i++) {
+        order[i] = i;
+      }
+      Arrays.sort(order, (a, b) -> Integer.compare(scores[b], scores[a]));
+      List<T> result = new ArrayList<>(size);
+      for (int i : order) {
+        result.add((T) items[i]);
+      }
+      return result;
+    }
+
+    private void siftUp(int i) {
+      while (i > 0) {
+        int parent = (i - 1) >>> 1;
+        if (scores[i] >= scores[parent]) {
+          return;
+        }
+        swap(i, parent);
+        i = parent;
+      }
+    }
+
+    private void siftDown(int i) {
+      while (true) {
+        int left = 2 * i + 1;
+        if (left >= size) {
+          return;
+        }
+        int smallest = left + 1 < size && scores[left + 1] < scores[left] ? left + 1 : left;
+        if (scores[smallest] >= scores[i]) {
+          return;
+        }
+        swap(i, smallest);
+        i = smallest;
+      }
+    }
+
+    private void swap(int i, int j) {
+      int score = scores[i];
+      scores[i] = scores[j];
+      scores[j] = score;
+      Object item = items[i];
+      items[i] = items[j];
+      items[j] = item;
+    }
+
+  }
+
+  /**
+   * int 키 → IntScoreHeap 오픈 어드레싱 테이블 (IntLongMap과 같은 선형 탐사)
+   */
+  static final class IntKeyHeaps<T> {
+
+    private final int n;
+    private int[] keys = new int[16];
+    private IntScoreHeap[] heaps = new IntScoreHeap[16];
+    private int size;
+
+    IntKeyHeaps(int n) {
+      this.n = n;
+    }
+
+    void offer(int key, int score, T item) {
+      heapFor(key).offer(score, item);
+    }
+
+    IntKeyHeaps<T> merge(IntKeyHeaps<T> other) {
+      for (int i = 0; i < other.keys.length; i++) {
+        if (other.heaps[i] != null) {
+          heapFor(other.keys[i]).merge(other.heaps[i]);
+        }
+      }
+      return this;
+    }
+
+    Map<Integer, List<T>> toMap() {
+      Map<Integer, List<T>> result = new TreeMap<>();
+      for (int i = 0; i < keys.length; i++) {
+        if (heaps[i] != null) {
+          result.put(keys[i], heaps[i].toSortedList());
+        }
+      }
+      return result;
+    }
+
+    private IntScoreHeap heapFor(int key) {
+      int slot = slotOf(key, keys, heaps);
+      if (heaps[slot] == null) {
+        keys[slot] = key;
+        heaps[slot] = new IntScoreHeap(n);
+        if (++size * 2 > keys.length) {
+          rehash();
+          slot = slotOf(key, keys, heaps);
+        }
+      }
+      return heaps[slot];
+    }
+
+    private void rehash() {
+      int[] oldKeys = keys;
+      IntScoreHeap[] oldHeaps = heaps;
+      keys = new int[oldKeys.length * 2];
+      heaps = new IntScoreHeap[oldKeys.length * 2];
+      for (int i = 0; i < oldKeys.length; i++) {
+        if (oldHeaps[i] != null) {
+          int slot = slotOf(oldKeys[i], keys, heaps);
+          keys[slot] = oldKeys[i];
+          heaps[slot] = oldHeaps[i];
+        }
+      }
+    }
+
+    private static int slotOf(int key, int[] keys, IntScoreHeap[] heaps) {
+      int mask = keys.length - 1;
+      int h = key * 0x9E3779B9;
+      int slot = (h ^ (h >>> 16)) & mask;
+      while (heaps[slot] != null && keys[slot] != key) {
+        slot = (slot + 1) & mask;
+      }
+      return slot;
+    }
+
+  }
+
+  private static void requirePositive(int n) {
+    if (n <= 0) {
+      throw new IllegalArgumentException("n must be positive: " + n);
+    }
+  }
+
+}
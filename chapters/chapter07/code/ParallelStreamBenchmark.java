@@ -134,6 +134,18 @@ public class ParallelStreamBenchmark {
         .reduce(0L, Long::sum);
   }
 
+  /**
+   * 6. 분할 가능한 점화식 소스 병렬 (SplittableSequences)
+   * 
+   * parallelSum과 같은 점화식 (i → i + 1), SIZED 소스로 분할
+   */
+  @Benchmark
+  public long splittableIterateSum() {
+    return SplittableSequences.iterate(1L, 1L, 1L, N)
+        .parallel()
+        .sum();
+  }
+
   /**
    * 각 반복 후 GC 실행
    * 
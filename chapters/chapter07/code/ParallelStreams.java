@@ -14,6 +14,7 @@ import java.util.stream.Stream;
  * 5. parallelRangedSum: LongStream.range 병렬 (효율적!)
  * 6. sideEffectSum: 공유 가변 상태 순차
  * 7. sideEffectParallelSum: 공유 가변 상태 병렬 (위험!)
+ * 8. splittableIterateSum: 분할 가능한 점화식 소스 병렬 (SplittableSequences)
  */
 public class ParallelStreams {
 
@@ -209,6 +210,25 @@ public class ParallelStreams {
     return accumulator.total;  // 틀린 결과!
   }
 
+  /**
+   * 8. 분할 가능한 점화식 소스를 병렬로 실행
+   * 
+   * 3번과 같은 점화식 (i → i + 1)이지만:
+   * - 크기가 정해진 SIZED 소스 → 가운데에서 정확히 반으로 분할
+   * - 뒤쪽 절반의 시작 값은 아핀 함수 점프로 O(log n)에 계산
+   * - 기본형 long → 박싱 없음
+   * 
+   * ✅ iterate가 필요한 점화식도 병렬 가능!
+   * 
+   * @param n 합계를 구할 범위
+   * @return 1부터 n까지의 합
+   */
+  public static long splittableIterateSum(long n) {
+    return SplittableSequences.iterate(1L, 1L, 1L, n)
+        .parallel()
+        .sum();
+  }
+
   /**
    * 공유 가변 상태를 가진 누산기 (안티패턴!)
    * 
@@ -245,6 +265,7 @@ public class ParallelStreams {
    * 5. parallelRangedSum:      ~1ms   ⭐⭐⭐⭐⭐ (최고!)
    * 6. sideEffectSum:          ~5ms   ⭐⭐⭐⭐  (정확)
    * 7. sideEffectParallelSum:  ~2ms   ❌      (부정확!)
+   * 8. splittableIterateSum:   5번과 비슷 (iterate와 같은 점화식을 분할)
    * 
    * 결론:
    * ✅ 병렬 스트림: LongStream + parallel
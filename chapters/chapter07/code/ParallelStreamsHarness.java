@@ -77,6 +77,12 @@ public class ParallelStreamsHarness {
     System.out.println("   ⏱️  Best: " + sideEffectParallelTime + " msecs");
     System.out.println("   ⚠️  결과가 매번 다름! (Race Condition)");
     
+    // 9. 분할 가능한 점화식 소스 병렬
+    System.out.println("\n9️⃣  Splittable Iterate Sum (SplittableSequences + parallel) ✅:");
+    long splittableTime = measurePerf(ParallelStreams::splittableIterateSum, 10_000_000L);
+    System.out.println("   ⏱️  Best: " + splittableTime + " msecs");
+    System.out.println("   📊 vs iterate parallel: " + String.format("%.1fx faster!", (double)parallelTime / splittableTime));
+    
     // 요약
     System.out.println("\n" + "=".repeat(80));
     System.out.println("📊 성능 요약 (빠른 순서):");
@@ -0,0 +1,207 @@
+package chapter07.code;
+
+import java.util.Spliterator;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Stream.iterate를 대신하는 분할 가능한 수열 소스
+ *
+ * Stream.iterate(seed, f).limit(n)이 병렬에서 느린 이유 (ParallelStreams 3번):
+ * - 다음 요소 = f(이전 요소) → i번째 요소를 구하려면 앞의 i개를 모두 계산
+ * - limit 뒤의 크기를 모름 → Spliterator가 SIZED가 아님
+ * - 분할은 앞에서 일정 개수를 배열로 복사하는 방식 → 사실상 순차 + 복사 비용
+ *
+ * 1. 인덱스 함수로 정의되는 수열: 요소 i = f(i)
+ *    - stream(from, to, LongFunction), longs(from, to, LongUnaryOperator), ints(from, to, IntUnaryOperator)
+ *    - range(from, to)에 f를 매핑 → range의 SIZED | SUBSIZED 분할을 그대로 사용
+ *
+ * 2. 아핀 점화식: x(i+1) = multiplier · x(i) + increment (long, 2^64 나머지 연산)
+ *    - i → i + 1 (1, 1), 등비 x → 2x (2, 0), 선형 합동 난수 등
+ *    - 아핀 함수의 합성은 다시 아핀 함수 → n번 적용을 제곱 반복으로 O(log n)에 계산
+ *    - 분할 시 뒤쪽 절반의 시작 값 = 현재 값에 (mid - index)번 점프 → 가운데에서 정확히 반으로
+ *    - 각 절반 안에서는 곱셈/덧셈 한 번씩으로 진행
+ */
+public final class SplittableSequences {
+
+  private SplittableSequences() {
+  }
+
+  public static void main(String... args) {
+    long n = 10_000_000L;
+    System.out.println("iterate 병렬 합   : " + ParallelStreams.parallelSum(n));
+    System.out.println("아핀 점화식 병렬 합: " + iterate(1, 1, 1, n).parallel().sum());
+    System.out.println("인덱스 함수 병렬 합: " + longs(1, n + 1, i -> i).parallel().sum());
+    System.out.println();
+
+    // 선형 합동 난수 (Knuth MMIX): 병렬 결과가 순차 결과와 같음
+    long a = 6364136223846793005L;
+    long c = 1442695040888963407L;
+    long sequential = LongStream.iterate(42, x -> a * x + c).limit(n).reduce(0, Long::sum);
+    long parallel = iterate(42, a, c, n).parallel().reduce(0, Long::sum);
+    System.out.println("LCG 합 (LongStream.iterate, 순차): " + sequential);
+    System.out.println("LCG 합 (아핀 점화식, 병렬)      : " + parallel);
+    System.out.println("2의 거듭제곱 (x → 2x)            : " + iterate(1, 2, 0, 10).boxed().toList());
+  }
+
+  // ==================================================
+  // 1. 인덱스 함수
+  // ==================================================
+  /**
+   * f(from), f(from + 1), ..., f(to - 1)
+   */
+  public static <T> Stream<T> stream(long from, long to, LongFunction<? extends T> f) {
+    return LongStream.range(from, to).mapToObj(f);
+  }
+
+  public static LongStream longs(long from, long to, LongUnaryOperator f) {
+    return LongStream.range(from, to).map(f);
+  }
+
+  public static IntStream ints(int from, int to, IntUnaryOperator f) {
+    return IntStream.range(from, to).map(f);
+  }
+
+  // ==================================================
+  // 2. 아핀 점화식
+  // ==================================================
+  /**
+   * LongStream.iterate(seed, x -> multiplier * x + increment).limit(count)와 같은 값,
+   * 분할 가능한 SIZED 스트림
+   */
+  public static LongStream iterate(long seed, long multiplier, long increment, long count) {
+    if (count < 0) {
+      throw new IllegalArgumentException("count must not be negative: " + count);
+    }
+    return StreamSupport.longStream(
+        new AffineSpliterator(new Affine(multiplier, increment), seed, 0, count), false);
+  }
+
+  /**
+   * iterate의 int 버전 (2^32 나머지 연산)
+   *
+   * 아래 32비트는 입력의 아래 32비트에만 의존 → long으로 계산한 뒤 자르면 int 연산과 같은 결과
+   */
+  public static IntStream iterateInt(int seed, int multiplier, int increment, long count) {
+    return iterate(seed, multiplier, increment, count).mapToInt(x -> (int) x);
+  }
+
+  /**
+   * x → multiplier · x + increment
+   */
+  public static final class Affine {
+
+    private static final Affine IDENTITY = new Affine(1, 0);
+
+    private final long multiplier;
+    private final long increment;
+
+    public Affine(long multiplier, long increment) {
+      this.multiplier = multiplier;
+      this.increment = increment;
+    }
+
+    public long apply(long x) {
+      return multiplier * x + increment;
+    }
+
+    /**
+     * this를 먼저 적용한 뒤 next 적용: x → next(this(x))
+     */
+    public Affine andThen(Affine next) {
+      return new Affine(next.multiplier * multiplier, next.multiplier * increment + next.increment);
+    }
+
+    /**
+     * this를 n번 적용한 함수 (제곱 반복, O(log n))
+     */
+    public Affine power(long n) {
+      Affine result = IDENTITY;
+      Affine base = this;
+      while (n > 0) {
+        if ((n & 1) != 0) {
+          result = result.andThen(base);
+        }
+        base = base.andThen(base);
+        n >>>= 1;
+      }
+      return result;
+    }
+
+  }
+
+  /**
+   * [index, end) 구간, current = 요소 index의 값
+   */
+  private static final class AffineSpliterator implements Spliterator.OfLong {
+
+    private final Affine step;
+    private long current;
+    private long index;
+    private final long end;
+
+    AffineSpliterator(Affine step, long current, long index, long end) {
+      this.step = step;
+      this.current = current;
+      this.index = index;
+      this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+      if (index >= end) {
+        return false;
+      }
+      action.accept(current);
+      current = step.apply(current);
+      index++;
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+      long m = step.multiplier;
+      long c = step.increment;
+      long x = current;
+      for (long i = index; i < end; i++) {
+        action.accept(x);
+        x = m * x + c;
+      }
+      current = x;
+      index = end;
+    }
+
+    /**
+     * 앞쪽 절반은 현재 값에서 시작, 이 Spliterator는 가운데 값으로 점프
+     */
+    @Override
+    public Spliterator.OfLong trySplit() {
+      long mid = index + (end - index) / 2;
+      if (mid <= index) {
+        return null;
+      }
+      AffineSpliterator prefix = new AffineSpliterator(step, current, index, mid);
+      current = step.power(mid - index).apply(current);
+      index = mid;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+    }
+
+  }
+
+}